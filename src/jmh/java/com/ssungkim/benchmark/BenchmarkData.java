@@ -0,0 +1,90 @@
+package com.ssungkim.benchmark;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크에서 사용할 테스트 데이터를 생성
+ * @since v1.1.0
+ */
+final class BenchmarkData {
+
+	static final int COLUMN_COUNT = 10;
+
+	private static final String[] codes = {"A01", "A02", "B10", "C99", "완료", "대기", "취소", "2024-01-01"};
+
+	private BenchmarkData() {}
+
+	/**
+	 * @param row 행 번호. 0일 경우 헤더 행
+	 * @return 코드성 값과 고유 값이 섞인 한 행의 데이터
+	 */
+	static List<String> row(int row) {
+		List<String> values = new ArrayList<String>(COLUMN_COUNT);
+		for(int col=0; col<COLUMN_COUNT; col++) {
+			if(row == 0) values.add("header"+col);
+			else if(col == 0) values.add(String.valueOf(row));
+			else if(col%3 == 0) values.add("value "+row+"-"+col);
+			else values.add(codes[(row+col)%codes.length]);
+		}
+		return values;
+	}
+
+	/**
+	 * @param rows 헤더를 포함한 행 개수
+	 * @return 행 개수만큼 생성된 {@code List<List<String>>} 객체
+	 */
+	static List<List<String>> rows(int rows) {
+		List<List<String>> data = new ArrayList<List<String>>(rows);
+		for(int i=0; i<rows; i++) data.add(row(i));
+		return data;
+	}
+
+	/**
+	 * @param format xls, xlsx, csv, txt 중 하나
+	 * @param rows 헤더를 포함한 행 개수
+	 * @return 임시 경로에 생성된 파일
+	 * @throws IOException 파일 생성에 실패한 경우
+	 */
+	static File createFile(String format, int rows) throws IOException {
+		File file = File.createTempFile("common-web-bench-", "."+format);
+		file.deleteOnExit();
+		if("csv".equals(format) || "txt".equals(format)) {
+			String delimiter = "csv".equals(format) ? "," : "\t";
+			try(BufferedWriter bw = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+				for(int i=0; i<rows; i++) {
+					bw.write(String.join(delimiter, row(i)));
+					bw.write("\n");
+				}
+			}
+		} else {
+			Workbook wb = "xls".equals(format) ? new HSSFWorkbook() : new SXSSFWorkbook();
+			try(OutputStream os = new FileOutputStream(file)) {
+				Sheet sheet = wb.createSheet("sheet1");
+				for(int i=0; i<rows; i++) {
+					Row row = sheet.createRow(i);
+					List<String> values = row(i);
+					for(int col=0; col<COLUMN_COUNT; col++) row.createCell(col).setCellValue(values.get(col));
+				}
+				wb.write(os);
+			} finally {
+				if(wb instanceof SXSSFWorkbook) ((SXSSFWorkbook)wb).dispose();
+				wb.close();
+			}
+		}
+		return file;
+	}
+}
@@ -0,0 +1,45 @@
+package com.ssungkim.benchmark;
+
+import com.ssungkim.web.service.FileService;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FileService#createXlsx}로 엑셀 파일을 생성하고 출력하는 처리량
+ * @since v1.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateXlsxBenchmark {
+
+	@Param({"1000", "10000", "50000"})
+	public int rows;
+
+	private List<List<String>> data;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		data = BenchmarkData.rows(rows);
+	}
+
+	@Benchmark
+	public void createXlsx() throws IOException {
+		SXSSFWorkbook wb = new SXSSFWorkbook();
+		try {
+			FileService.createXlsx(wb, data);
+			wb.write(OutputStream.nullOutputStream());
+		} finally {
+			wb.dispose();
+			wb.close();
+		}
+	}
+}
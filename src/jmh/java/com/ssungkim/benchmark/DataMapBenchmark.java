@@ -0,0 +1,50 @@
+package com.ssungkim.benchmark;
+
+import com.ssungkim.model.DataMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DataMap#getInt}, {@link DataMap#getDouble}의 처리량
+ * @since v1.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataMapBenchmark {
+
+	private DataMap map;
+
+	@Setup
+	public void setUp() {
+		map = new DataMap();
+		map.put("int", "12345");
+		map.put("formattedInt", "12,345");
+		map.put("double", "1234.5");
+		map.put("formattedDouble", "1,234.5");
+	}
+
+	@Benchmark
+	public int getInt() {
+		return map.getInt("int");
+	}
+
+	@Benchmark
+	public int getIntFormatted() {
+		return map.getInt("formattedInt");
+	}
+
+	@Benchmark
+	public double getDouble() {
+		return map.getDouble("double");
+	}
+
+	@Benchmark
+	public double getDoubleFormatted() {
+		return map.getDouble("formattedDouble");
+	}
+}
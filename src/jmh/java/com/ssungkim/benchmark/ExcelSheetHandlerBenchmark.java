@@ -0,0 +1,45 @@
+package com.ssungkim.benchmark;
+
+import com.ssungkim.web.service.ExcelSheetHandler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExcelSheetHandler}로 xlsx 파일을 SAX 방식으로 읽는 크기별 처리량
+ * @since v1.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelSheetHandlerBenchmark {
+
+	@Param({"xlsx"})
+	public String format;
+
+	@Param({"1000", "10000", "50000"})
+	public int rows;
+
+	private File file;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		file = BenchmarkData.createFile(format, rows);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Benchmark
+	public boolean readExcel(Blackhole bh) {
+		return ExcelSheetHandler.readExcel(file, bh::consume);
+	}
+}
@@ -0,0 +1,51 @@
+package com.ssungkim.benchmark;
+
+import com.ssungkim.web.service.FileService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FileService#parsingFromFile}의 파일 형식, 크기별 처리량
+ * @since v1.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileParsingBenchmark {
+
+	@Param({"xls", "xlsx", "csv", "txt"})
+	public String format;
+
+	@Param({"1000", "10000", "50000"})
+	public int rows;
+
+	private File file;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		file = BenchmarkData.createFile(format, rows);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Benchmark
+	public List<List<String>> parsingFromFile() {
+		return FileService.parsingFromFile(file, format);
+	}
+
+	@Benchmark
+	public int parsingFromFileStreaming(Blackhole bh) {
+		return FileService.parsingFromFile(file, format, bh::consume);
+	}
+}
@@ -0,0 +1,60 @@
+package com.ssungkim.benchmark;
+
+import com.ssungkim.model.DataMap;
+import com.ssungkim.web.service.ParameterService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ParameterService#makeAllParameter}의 처리량
+ * @since v1.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterServiceBenchmark {
+
+	@Param({"10", "50"})
+	public int parameterCount;
+
+	private HttpServletRequest request;
+
+	@Setup
+	public void setUp() {
+		request = mockRequest(parameterCount);
+	}
+
+	@Benchmark
+	public DataMap makeAllParameter() {
+		return ParameterService.makeAllParameter(request);
+	}
+
+	/**
+	 * @param parameterCount 생성할 파라미터 개수
+	 * @return getParameter, getParameterNames, getParameterValues, getParameterMap만 응답하는 {@link HttpServletRequest}
+	 */
+	static HttpServletRequest mockRequest(int parameterCount) {
+		Map<String, String[]> parameters = new LinkedHashMap<String, String[]>();
+		for(int i=0; i<parameterCount; i++) parameters.put("param"+i, new String[] {"value &lt;"+i+"&gt;"});
+		return (HttpServletRequest)Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(), new Class<?>[] {HttpServletRequest.class}, (proxy, method, args) -> {
+			switch(method.getName()) {
+			case "getParameter":
+				String[] values = parameters.get((String)args[0]);
+				return values == null ? null : values[0];
+			case "getParameterValues": return parameters.get((String)args[0]);
+			case "getParameterNames": return Collections.enumeration(parameters.keySet());
+			case "getParameterMap": return parameters;
+			default: return null;
+			}
+		});
+	}
+}
@@ -0,0 +1,46 @@
+package com.ssungkim.benchmark;
+
+import com.ssungkim.model.RegexType;
+import com.ssungkim.web.service.CommonService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CommonService#replaceMatchingValueRegexFromData}의 {@link RegexType}별 처리량
+ * @since v1.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SanitizerBenchmark {
+
+	@Param({"ID", "PASSWORD", "EMAIL", "EXPRESSION", "INTEGER", "DOUBLE"})
+	public RegexType type;
+
+	@Param({"clean", "dirty"})
+	public String input;
+
+	private String data;
+
+	@Setup
+	public void setUp() {
+		boolean clean = "clean".equals(input);
+		switch(type) {
+		case ID: data = clean ? "user_name01" : "user name-01!"; break;
+		case PASSWORD: data = clean ? "Passw0rd!@#" : "Pass word<>01"; break;
+		case EMAIL: data = clean ? "nobody" : "someone@example.com"; break;
+		case EXPRESSION: data = clean ? "plain request parameter value" : "a &lt;b&gt; &amp; &quot;c&quot; &#39;d&#39;"; break;
+		case INTEGER: data = clean ? "-1234567" : "1,234,567원"; break;
+		default: data = clean ? "-1234.567" : "1,234.567 KRW";
+		}
+	}
+
+	@Benchmark
+	public String replaceMatchingValueRegexFromData() {
+		return CommonService.replaceMatchingValueRegexFromData(type, data);
+	}
+}
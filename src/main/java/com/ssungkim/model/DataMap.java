@@ -1,11 +1,15 @@
 package com.ssungkim.model;
 
-import com.ssungkim.web.service.CommonService;
 import com.ssungkim.web.service.LoggingService;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
 
 /**
  * @since v1.0.0
@@ -16,6 +20,8 @@ import java.util.HashMap;
 @Component
 public class DataMap extends HashMap<String, Object> {
 
+	private static final long INVALID_INT = Long.MIN_VALUE;
+
 	@Override
 	public Object get(Object key) throws NullPointerException {
 		Object o = super.get(key);
@@ -30,114 +36,330 @@ public class DataMap extends HashMap<String, Object> {
 	 * @throws NullPointerException key에 해당하는 값이 없는 경우
 	 */
 	public String getString(String key) throws NullPointerException {
-		return get(key).toString().trim();
+		return require(key).toString().trim();
 	}
 
 	/**
 	 * @since v1.0.0
 	 * @param key 가져올 데이터에 대한 key 문자열
-	 * @return key에 해당하는 정수형 값. 예상치 못한 예외 발생 시 0 리턴
+	 * @return key에 해당하는 정수형 값
 	 * @throws NullPointerException key에 해당하는 값이 없는 경우
 	 * @throws NumberFormatException key에 해당하는 값의 형식이 숫자 형식이 아닐 경우
 	 */
 	public int getInt(String key) throws NullPointerException, NumberFormatException {
-		int n = 0;
-		try {
-			Object o = get(key);
-			String s = o == null ? "0" : o.toString().trim();
-			try{
-				s = CommonService.replaceMatchingValueRegexFromData(RegexType.INTEGER, s);
-				n = Integer.parseInt(s);
-			} catch(NumberFormatException e){
-				LoggingService.error(getClass(), e.getClass()+" for parsing data. Because value is not a number format. Key : "+key+" / Data : "+o, e);
-				throw new NumberFormatException();
-			} catch(Exception e){
-				LoggingService.error(getClass(), e.getClass()+" for parsing data. Key : "+key, e);
-				return 0;
-			}
-		} catch(NullPointerException e){
-			LoggingService.error(getClass(), e.getClass()+" for parsing data. Because DataMap has not value about key. Key : "+key, e);
-			throw new NullPointerException();
-		}
-		return n;
+		Object o = require(key);
+		long n = parseInt(o);
+		if(n == INVALID_INT) throw new NumberFormatException("Value is not a number format. Key : "+key+" / Data : "+o);
+		return (int)n;
 	}
 
 	/**
 	 * @since v1.0.0
 	 * @param key 가져올 데이터에 대한 key 문자열
-	 * @return key에 해당하는 실수형 값. 예상치 못한 예외 발생 시 0.0 리턴
+	 * @return key에 해당하는 실수형 값
 	 * @throws NullPointerException key에 해당하는 값이 없는 경우
 	 * @throws NumberFormatException key에 해당하는 값의 형식이 숫자 형식이 아닐 경우
 	 */
 	public double getDouble(String key) throws NullPointerException, NumberFormatException {
-		double n = 0.0;
-		try {
-			Object o = get(key);
-			String s = o == null ? "0" : o.toString().trim();
-			try{
-				s = CommonService.replaceMatchingValueRegexFromData(RegexType.DOUBLE, s);
-				n = Double.parseDouble(s);
-			} catch(NumberFormatException e){
-				LoggingService.error(getClass(), e.getClass()+" for parsing data. Because value is not a number format. Key : "+key+" / Data : "+o, e);
-				throw new NumberFormatException();
-			} catch(Exception e){
-				LoggingService.error(getClass(), e.getClass()+" for parsing data. Key : "+key, e);
-				return 0.0;
-			}
-		} catch(NullPointerException e) {
-			LoggingService.error(getClass(), e.getClass()+" for parsing data. Because DataMap has not value about key. Key : "+key, e);
-			throw new NullPointerException();
-		}
-		return n;
+		Object o = require(key);
+		Double d = parseDouble(o);
+		if(d == null) throw new NumberFormatException("Value is not a number format. Key : "+key+" / Data : "+o);
+		return d;
 	}
 
 	/**
 	 * @since v1.0.0
 	 * @param key 가져올 데이터에 대한 key 문자열
-	 * @return key에 해당하는 논리형 값. 예상치 못한 예외 발생 시 false 리턴
+	 * @return key에 해당하는 논리형 값
 	 * @throws NullPointerException key에 해당하는 값이 없는 경우
 	 */
 	public boolean getBoolean(String key) throws NullPointerException {
-		boolean b = false;
-		try {
-			Object o = get(key);
-			try{
-				b = Boolean.parseBoolean(o.toString().trim());
-			} catch(Exception e){
-				LoggingService.error(getClass(), e.getClass()+"for parsing data. Key : "+key, e);
-				return false;
-			}
-		} catch(NullPointerException e) {
-			LoggingService.error(getClass(), e.getClass()+" for parsing data. Because DataMap has not value about key. Key : "+key, e);
-			throw new NullPointerException();
-		}
-		return b;
+		return parseBoolean(require(key));
 	}
 
 	/**
 	 * @since v1.0.0
 	 * @param key 가져올 데이터에 대한 key 문자열
-	 * @return key에 해당하는 파일 객체. 예상치 못한 예외 발생 시 null 리턴
+	 * @return key에 해당하는 파일 객체
 	 * @throws NullPointerException key에 해당하는 값이 없는 경우
 	 * @throws ClassCastException key에 해당하는 값을 {@link File}객체로 casting하지 못할 경우
 	 */
 	public File getFile(String key) throws NullPointerException, ClassCastException {
-		File f = null;
-		try {
-			Object o = get(key);
-			try{
-				f = (File)o;
-			} catch(ClassCastException e){
-				LoggingService.error(getClass(), e.getClass()+" for cast File from Object. Key : "+key, e);
-				throw new ClassCastException();
-			} catch(Exception e){
-				LoggingService.error(getClass(), e.getClass()+" for parsing data. Key : "+key, e);
-				return null;
+		Object o = require(key);
+		if(!(o instanceof File)) throw new ClassCastException("Value is not a File. Key : "+key+" / Class : "+o.getClass());
+		return (File)o;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param key 가져올 데이터에 대한 key 문자열
+	 * @param defaultValue key에 해당하는 값이 없을 경우 리턴할 값
+	 * @return key에 해당하는 trim 처리된 문자열 값
+	 */
+	public String getStringOrDefault(String key, String defaultValue) {
+		Object o = super.get(key);
+		return o == null ? defaultValue : o.toString().trim();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param key 가져올 데이터에 대한 key 문자열
+	 * @return key에 해당하는 trim 처리된 문자열 값. 값이 없을 경우 빈 {@link Optional} 리턴
+	 */
+	public Optional<String> getOptionalString(String key) {
+		return Optional.ofNullable(getStringOrDefault(key, null));
+	}
+
+	/**
+	 * 숫자와 '-'가 아닌 문자는 무시하고 파싱하며, 예외를 발생시키지 않음
+	 * @since v1.1.0
+	 * @param key 가져올 데이터에 대한 key 문자열
+	 * @param defaultValue key에 해당하는 값이 없거나 숫자 형식이 아닐 경우 리턴할 값
+	 * @return key에 해당하는 정수형 값
+	 */
+	public int getIntOrDefault(String key, int defaultValue) {
+		long n = parseInt(super.get(key));
+		return n == INVALID_INT ? defaultValue : (int)n;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param key 가져올 데이터에 대한 key 문자열
+	 * @return key에 해당하는 정수형 값. 값이 없거나 숫자 형식이 아닐 경우 빈 {@link OptionalInt} 리턴
+	 * @see #getIntOrDefault(String, int)
+	 */
+	public OptionalInt getOptionalInt(String key) {
+		long n = parseInt(super.get(key));
+		return n == INVALID_INT ? OptionalInt.empty() : OptionalInt.of((int)n);
+	}
+
+	/**
+	 * 숫자, '.', '-'가 아닌 문자는 무시하고 파싱하며, 예외를 발생시키지 않음
+	 * @since v1.1.0
+	 * @param key 가져올 데이터에 대한 key 문자열
+	 * @param defaultValue key에 해당하는 값이 없거나 숫자 형식이 아닐 경우 리턴할 값
+	 * @return key에 해당하는 실수형 값
+	 */
+	public double getDoubleOrDefault(String key, double defaultValue) {
+		Double d = parseDouble(super.get(key));
+		return d == null ? defaultValue : d;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param key 가져올 데이터에 대한 key 문자열
+	 * @return key에 해당하는 실수형 값. 값이 없거나 숫자 형식이 아닐 경우 빈 {@link OptionalDouble} 리턴
+	 * @see #getDoubleOrDefault(String, double)
+	 */
+	public OptionalDouble getOptionalDouble(String key) {
+		Double d = parseDouble(super.get(key));
+		return d == null ? OptionalDouble.empty() : OptionalDouble.of(d);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param key 가져올 데이터에 대한 key 문자열
+	 * @param defaultValue key에 해당하는 값이 없을 경우 리턴할 값
+	 * @return key에 해당하는 논리형 값
+	 */
+	public boolean getBooleanOrDefault(String key, boolean defaultValue) {
+		Object o = super.get(key);
+		return o == null ? defaultValue : parseBoolean(o);
+	}
+
+	/**
+	 * 값을 가져오는 중 발견된 문제를 모아 두었다가 {@link Strict#validate()}에서 한 번에 전달하는 객체 리턴
+	 * <pre>
+	 * DataMap.Strict strict = dataMap.strict();
+	 * String name = strict.getString("name");
+	 * int age = strict.getInt("age");
+	 * strict.validate();
+	 * </pre>
+	 * @since v1.1.0
+	 * @return 현재 {@link DataMap}의 값을 엄격하게 검사하는 {@link Strict}
+	 */
+	public Strict strict() {
+		return new Strict();
+	}
+
+	private Object require(String key) throws NullPointerException {
+		Object o = super.get(key);
+		if(o == null) {
+			LoggingService.debug(getClass(), "DataMap has not value about key. Key : {}", key);
+			throw new NullPointerException("DataMap has not value about key. Key : "+key);
+		}
+		return o;
+	}
+
+	/**
+	 * {@link RegexType#INTEGER} 정규식으로 제거되던 문자를 건너뛰면서 한 번의 순회로 파싱
+	 * @param o 파싱할 값
+	 * @return 정수형 값. 값이 null이거나 int 범위의 정수 형식이 아닐 경우 {@link #INVALID_INT} 리턴
+	 */
+	private static long parseInt(Object o) {
+		if(o == null) return INVALID_INT;
+		if(o instanceof Integer || o instanceof Short || o instanceof Byte) return ((Number)o).intValue();
+		if(o instanceof Long) {
+			long l = (Long)o;
+			return l < Integer.MIN_VALUE || l > Integer.MAX_VALUE ? INVALID_INT : l;
+		}
+		if(o instanceof Double || o instanceof Float) {
+			double d = ((Number)o).doubleValue();
+			return d != Math.rint(d) || d < Integer.MIN_VALUE || d > Integer.MAX_VALUE ? INVALID_INT : (long)d;
+		}
+		String s = o.toString();
+		int len = s.length();
+		boolean negative = false;
+		boolean digits = false;
+		long n = 0;
+		for(int i=0; i<len; i++) {
+			char c = s.charAt(i);
+			if(c >= '0' && c <= '9') {
+				n = n*10+(c-'0');
+				if(n > (long)Integer.MAX_VALUE+1) return INVALID_INT;
+				digits = true;
+			} else if(c == '-') {
+				if(negative || digits) return INVALID_INT;
+				negative = true;
+			}
+		}
+		if(!digits) return INVALID_INT;
+		n = negative ? -n : n;
+		return n > Integer.MAX_VALUE ? INVALID_INT : n;
+	}
+
+	/**
+	 * {@link RegexType#DOUBLE} 정규식으로 제거되던 문자를 건너뛴 후, 형식이 올바른 경우에만 {@link Double#parseDouble(String)}을 호출
+	 * @param o 파싱할 값
+	 * @return 실수형 값. 값이 null이거나 실수 형식이 아닐 경우 null 리턴
+	 */
+	private static Double parseDouble(Object o) {
+		if(o == null) return null;
+		if(o instanceof Number) {
+			double d = ((Number)o).doubleValue();
+			return Double.isNaN(d) || Double.isInfinite(d) ? null : d;
+		}
+		String s = o.toString();
+		int len = s.length();
+		StringBuilder sb = null;
+		boolean negative = false;
+		boolean point = false;
+		boolean digits = false;
+		for(int i=0; i<len; i++) {
+			char c = s.charAt(i);
+			boolean keep = true;
+			if(c >= '0' && c <= '9') digits = true;
+			else if(c == '-') {
+				if(negative || digits || point) return null;
+				negative = true;
+			} else if(c == '.') {
+				if(point) return null;
+				point = true;
+			} else keep = false;
+			if(!keep && sb == null) sb = new StringBuilder(len).append(s, 0, i);
+			else if(keep && sb != null) sb.append(c);
+		}
+		if(!digits) return null;
+		return Double.parseDouble(sb == null ? s : sb.toString());
+	}
+
+	private static boolean parseBoolean(Object o) {
+		if(o instanceof Boolean) return (Boolean)o;
+		return "true".equalsIgnoreCase(o.toString().trim());
+	}
+
+	/**
+	 * 값이 없거나 형식이 맞지 않아도 예외를 발생시키지 않고 기본값(null, 0, 0.0, false)을 리턴하며, 문제는 모아 두었다가 {@link #validate()}에서 한 번에 전달
+	 * @since v1.1.0
+	 * @see DataMap#strict()
+	 */
+	public class Strict {
+
+		private final List<String> problems = new ArrayList<String>();
+
+		private Strict() {}
+
+		/**
+		 * @since v1.1.0
+		 * @param key 가져올 데이터에 대한 key 문자열
+		 * @return key에 해당하는 trim 처리된 문자열 값. 값이 없을 경우 null 리턴
+		 */
+		public String getString(String key) {
+			String s = getStringOrDefault(key, null);
+			if(s == null) missing(key);
+			return s;
+		}
+
+		/**
+		 * @since v1.1.0
+		 * @param key 가져올 데이터에 대한 key 문자열
+		 * @return key에 해당하는 정수형 값. 값이 없거나 숫자 형식이 아닐 경우 0 리턴
+		 */
+		public int getInt(String key) {
+			Object o = DataMap.super.get(key);
+			if(o == null) {
+				missing(key);
+				return 0;
+			}
+			long n = parseInt(o);
+			if(n == INVALID_INT) {
+				problems.add("Value is not a number format. Key : "+key+" / Data : "+o);
+				return 0;
+			}
+			return (int)n;
+		}
+
+		/**
+		 * @since v1.1.0
+		 * @param key 가져올 데이터에 대한 key 문자열
+		 * @return key에 해당하는 실수형 값. 값이 없거나 숫자 형식이 아닐 경우 0.0 리턴
+		 */
+		public double getDouble(String key) {
+			Object o = DataMap.super.get(key);
+			if(o == null) {
+				missing(key);
+				return 0.0;
 			}
-		} catch(NullPointerException e) {
-			LoggingService.error(getClass(), e.getClass()+" for parsing data. Because DataMap has not value about key. Key : "+key, e);
-			throw new NullPointerException();
+			Double d = parseDouble(o);
+			if(d == null) {
+				problems.add("Value is not a number format. Key : "+key+" / Data : "+o);
+				return 0.0;
+			}
+			return d;
+		}
+
+		/**
+		 * @since v1.1.0
+		 * @param key 가져올 데이터에 대한 key 문자열
+		 * @return key에 해당하는 논리형 값. 값이 없을 경우 false 리턴
+		 */
+		public boolean getBoolean(String key) {
+			Object o = DataMap.super.get(key);
+			if(o == null) {
+				missing(key);
+				return false;
+			}
+			return parseBoolean(o);
+		}
+
+		/**
+		 * @since v1.1.0
+		 * @return 지금까지 발견된 문제 목록
+		 */
+		public List<String> getProblems() {
+			return List.copyOf(problems);
+		}
+
+		/**
+		 * @since v1.1.0
+		 * @throws ValidationException 지금까지 발견된 문제가 있을 경우. 모든 문제를 포함
+		 */
+		public void validate() throws ValidationException {
+			if(!problems.isEmpty()) throw new ValidationException(problems);
+		}
+
+		private void missing(String key) {
+			problems.add("DataMap has not value about key. Key : "+key);
 		}
-		return f;
 	}
 }
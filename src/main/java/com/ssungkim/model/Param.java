@@ -0,0 +1,36 @@
+package com.ssungkim.model;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 파라미터를 객체로 변환할 때 필드 또는 record 구성 요소에 적용할 파라미터 이름과 검사 규칙
+ * @since v1.1.0
+ * @see com.ssungkim.web.service.RequestBinder
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+public @interface Param {
+
+	/**
+	 * @since v1.1.0
+	 * @return 파라미터 key 문자열. 빈 문자열일 경우 필드 이름 사용
+	 */
+	String value() default "";
+
+	/**
+	 * @since v1.1.0
+	 * @return 값에 순서대로 적용할 {@link RegexType} 목록. 비어 있을 경우 문자열과 long은 EXPRESSION, int와 short는 EXPRESSION과 INTEGER, 실수형은 EXPRESSION과 DOUBLE 적용
+	 */
+	RegexType[] regex() default {};
+
+	/**
+	 * @since v1.1.0
+	 * @return 파라미터가 반드시 있어야 하는지 여부
+	 */
+	boolean required() default false;
+}
@@ -0,0 +1,180 @@
+package com.ssungkim.model;
+
+import java.util.Arrays;
+
+/**
+ * 파일 파싱 시 읽어올 행 범위와 열을 지정하는 변경 불가능한 옵션.
+ * 행 번호는 파싱 결과로 전달되는 행의 순서(제목 행이 0)를 기준으로 하며, 필요한 행을 모두 읽으면 나머지 데이터는 읽지 않음
+ * <pre>
+ * ReadOptions preview = ReadOptions.builder().maxRows(50).build();
+ * ReadOptions window = ReadOptions.builder().startRow(1000).maxRows(100).columns(0, 3, 4).build();
+ * </pre>
+ * @since v1.1.0
+ * @see Builder
+ */
+public final class ReadOptions {
+
+	/**
+	 * 모든 행과 열을 읽는 기본 옵션
+	 * @since v1.1.0
+	 */
+	public static final ReadOptions ALL = new ReadOptions(0, Integer.MAX_VALUE, null);
+
+	private final int startRow;
+	private final int maxRows;
+	private final int[] columns;
+
+	private ReadOptions(int startRow, int maxRows, int[] columns) {
+		this.startRow = startRow;
+		this.maxRows = maxRows;
+		this.columns = columns;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return {@link ReadOptions}를 생성하는 {@link Builder}
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 첫번째 행(제목 행)만 읽는 옵션
+	 */
+	public static ReadOptions headerOnly() {
+		return new ReadOptions(0, 1, null);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param maxRows 읽어올 행의 최대 개수. 제목 행 포함
+	 * @return 앞에서부터 maxRows개의 행만 읽는 옵션
+	 * @throws IllegalArgumentException maxRows가 1보다 작을 경우
+	 */
+	public static ReadOptions firstRows(int maxRows) throws IllegalArgumentException {
+		return builder().maxRows(maxRows).build();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 건너뛸 행의 개수. 이 번호의 행부터 전달
+	 */
+	public int getStartRow() {
+		return startRow;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 전달할 행의 최대 개수. 제한이 없을 경우 {@link Integer#MAX_VALUE} 리턴
+	 */
+	public int getMaxRows() {
+		return maxRows;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 읽어올 열 번호(0부터 시작) 배열의 복사본. 모든 열을 읽을 경우 null 리턴
+	 */
+	public int[] getColumns() {
+		return columns == null ? null : columns.clone();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 첫번째 행만 읽는 옵션인지 여부
+	 */
+	public boolean isHeaderOnly() {
+		return startRow == 0 && maxRows == 1;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 모든 행과 열을 읽는 옵션인지 여부
+	 */
+	public boolean isAll() {
+		return startRow == 0 && maxRows == Integer.MAX_VALUE && columns == null;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 파일의 열 번호를 index로 결과 행의 열 위치를 저장한 배열. 읽지 않는 열은 -1이며, 배열 길이 이상의 열 번호도 읽지 않는 열. 모든 열을 읽을 경우 null 리턴
+	 */
+	public int[] columnPositions() {
+		if(columns == null) return null;
+		int size = 0;
+		for(int column : columns) size = Math.max(size, column+1);
+		int[] positions = new int[size];
+		Arrays.fill(positions, -1);
+		for(int i=0; i<columns.length; i++) positions[columns[i]] = i;
+		return positions;
+	}
+
+	@Override
+	public String toString() {
+		return "ReadOptions [startRow="+startRow+", maxRows="+(maxRows == Integer.MAX_VALUE ? "all" : maxRows)+", columns="+(columns == null ? "all" : Arrays.toString(columns))+"]";
+	}
+
+	/**
+	 * {@link ReadOptions}를 생성. 설정하지 않은 값은 처음부터 모든 행과 열을 읽음
+	 * @since v1.1.0
+	 */
+	public static class Builder {
+
+		private int startRow = 0;
+		private int maxRows = Integer.MAX_VALUE;
+		private int[] columns = null;
+
+		private Builder() {}
+
+		/**
+		 * @since v1.1.0
+		 * @param startRow 건너뛸 행의 개수. 제목 행도 행 개수에 포함
+		 * @return 현재 {@link Builder}
+		 * @throws IllegalArgumentException startRow가 0보다 작을 경우
+		 */
+		public Builder startRow(int startRow) throws IllegalArgumentException {
+			if(startRow < 0) throw new IllegalArgumentException("Start row can not be negative. Start row : "+startRow);
+			this.startRow = startRow;
+			return this;
+		}
+
+		/**
+		 * @since v1.1.0
+		 * @param maxRows 전달할 행의 최대 개수
+		 * @return 현재 {@link Builder}
+		 * @throws IllegalArgumentException maxRows가 1보다 작을 경우
+		 */
+		public Builder maxRows(int maxRows) throws IllegalArgumentException {
+			if(maxRows < 1) throw new IllegalArgumentException("Max rows must be positive. Max rows : "+maxRows);
+			this.maxRows = maxRows;
+			return this;
+		}
+
+		/**
+		 * @since v1.1.0
+		 * @param columns 읽어올 열 번호(0부터 시작). 결과 행은 지정한 순서대로 열을 가지며, 파일에 없는 열은 빈 문자열. 지정하지 않은 열의 값은 만들지 않음
+		 * @return 현재 {@link Builder}
+		 * @throws IllegalArgumentException 열 번호가 없거나, 0보다 작거나, 중복될 경우
+		 */
+		public Builder columns(int... columns) throws IllegalArgumentException {
+			if(columns == null || columns.length == 0) throw new IllegalArgumentException("Columns can not be empty.");
+			int[] sorted = columns.clone();
+			Arrays.sort(sorted);
+			if(sorted[0] < 0) throw new IllegalArgumentException("Column can not be negative. Columns : "+Arrays.toString(columns));
+			for(int i=1; i<sorted.length; i++) {
+				if(sorted[i] == sorted[i-1]) throw new IllegalArgumentException("Duplicate column. Columns : "+Arrays.toString(columns));
+			}
+			this.columns = columns.clone();
+			return this;
+		}
+
+		/**
+		 * @since v1.1.0
+		 * @return 설정된 값으로 생성한 {@link ReadOptions}
+		 */
+		public ReadOptions build() {
+			return new ReadOptions(startRow, maxRows, columns);
+		}
+	}
+}
@@ -0,0 +1,281 @@
+package com.ssungkim.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * 파일에서 읽어온 데이터를 열 단위로 저장하는 읽기 전용 테이블.
+ * 각 열은 중복되는 문자열을 한 번만 저장하는 사전과 사전 번호 배열로 구성되므로, 코드, 상태, 날짜처럼 같은 값이 반복되는 데이터는 {@code List<List<String>>}보다 적은 메모리를 사용
+ * @since v1.1.0
+ * @see Builder
+ */
+public class Table implements Iterable<List<String>> {
+
+	private final int rowCount;
+	private final Column[] columns;
+	private final int[] rowWidths;
+
+	private Table(int rowCount, Column[] columns, int[] rowWidths) {
+		this.rowCount = rowCount;
+		this.columns = columns;
+		this.rowWidths = rowWidths;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 행을 순서대로 추가해 {@link Table}을 생성하는 {@link Builder}
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 행 개수
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 가장 많은 열을 가진 행의 열 개수
+	 */
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param row 행 번호
+	 * @return row 행의 열 개수
+	 * @throws IndexOutOfBoundsException 행 번호가 범위를 벗어난 경우
+	 */
+	public int getRowWidth(int row) throws IndexOutOfBoundsException {
+		checkRow(row);
+		return rowWidths == null ? columns.length : rowWidths[row];
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param row 행 번호
+	 * @param column 열 번호
+	 * @return row 행, column 열의 값. 해당 행에 없는 열일 경우 빈 문자열 리턴
+	 * @throws IndexOutOfBoundsException 행 번호 또는 열 번호가 범위를 벗어난 경우
+	 */
+	public String get(int row, int column) throws IndexOutOfBoundsException {
+		checkRow(row);
+		return columns[column].get(row);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param row 행 번호
+	 * @return row 행의 값을 읽기 전용으로 보여주는 {@code List<String>}
+	 * @throws IndexOutOfBoundsException 행 번호가 범위를 벗어난 경우
+	 */
+	public List<String> getRow(int row) throws IndexOutOfBoundsException {
+		return new RowView(row, getRowWidth(row));
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param column 열 번호
+	 * @return column 열의 모든 행 값을 읽기 전용으로 보여주는 {@code List<String>}
+	 * @throws IndexOutOfBoundsException 열 번호가 범위를 벗어난 경우
+	 */
+	public List<String> getColumn(int column) throws IndexOutOfBoundsException {
+		Column c = columns[column];
+		return new ReadOnlyList<String>() {
+			@Override
+			public String get(int index) {
+				checkRow(index);
+				return c.get(index);
+			}
+
+			@Override
+			public int size() {
+				return rowCount;
+			}
+		};
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param column 열 번호
+	 * @return column 열에 저장된 서로 다른 값의 개수
+	 * @throws IndexOutOfBoundsException 열 번호가 범위를 벗어난 경우
+	 */
+	public int getDistinctCount(int column) throws IndexOutOfBoundsException {
+		return columns[column].dictionary.length;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 기존 형식과 같은 {@code List<List<String>>} 형태로 테이블을 읽기 전용으로 보여주는 객체. 데이터를 복사하지 않음
+	 */
+	public List<List<String>> toList() {
+		return new ReadOnlyList<List<String>>() {
+			@Override
+			public List<String> get(int index) {
+				return getRow(index);
+			}
+
+			@Override
+			public int size() {
+				return rowCount;
+			}
+		};
+	}
+
+	@Override
+	public Iterator<List<String>> iterator() {
+		return toList().iterator();
+	}
+
+	private void checkRow(int row) throws IndexOutOfBoundsException {
+		if(row < 0 || row >= rowCount) throw new IndexOutOfBoundsException("Row : "+row+" / Row count : "+rowCount);
+	}
+
+	private abstract static class ReadOnlyList<E> extends AbstractList<E> implements RandomAccess {
+	}
+
+	private class RowView extends ReadOnlyList<String> {
+
+		private final int row;
+		private final int width;
+
+		private RowView(int row, int width) {
+			this.row = row;
+			this.width = width;
+		}
+
+		@Override
+		public String get(int index) {
+			if(index < 0 || index >= width) throw new IndexOutOfBoundsException("Column : "+index+" / Row width : "+width);
+			return columns[index].get(row);
+		}
+
+		@Override
+		public int size() {
+			return width;
+		}
+	}
+
+	/**
+	 * 한 열의 값 사전과 행별 사전 번호. 사전의 값이 65536개 이하일 경우 2byte 번호를 사용
+	 */
+	private static class Column {
+
+		private final String[] dictionary;
+		private final char[] charCodes;
+		private final int[] intCodes;
+
+		private Column(String[] dictionary, char[] charCodes, int[] intCodes) {
+			this.dictionary = dictionary;
+			this.charCodes = charCodes;
+			this.intCodes = intCodes;
+		}
+
+		private String get(int row) {
+			return dictionary[charCodes != null ? charCodes[row] : intCodes[row]];
+		}
+	}
+
+	/**
+	 * 행을 순서대로 추가해 {@link Table}을 생성. {@link Consumer}를 구현하므로 파일 파싱 시 행을 전달받는 용도로 바로 사용 가능
+	 * @since v1.1.0
+	 */
+	public static class Builder implements Consumer<List<String>> {
+
+		private final List<ColumnBuilder> columns = new ArrayList<ColumnBuilder>();
+		private int[] rowWidths = new int[16];
+		private boolean ragged = false;
+		private int rowCount = 0;
+
+		private Builder() {}
+
+		/**
+		 * @since v1.1.0
+		 * @param row 추가할 행 데이터
+		 * @return 현재 {@link Builder}
+		 */
+		public Builder add(List<String> row) {
+			int width = row.size();
+			while(columns.size() < width) columns.add(new ColumnBuilder());
+			for(int i=0; i<width; i++) columns.get(i).set(rowCount, row.get(i));
+			if(rowCount == rowWidths.length) rowWidths = Arrays.copyOf(rowWidths, rowCount*2);
+			rowWidths[rowCount] = width;
+			if(rowCount > 0 && width != rowWidths[0]) ragged = true;
+			rowCount++;
+			return this;
+		}
+
+		@Override
+		public void accept(List<String> row) {
+			add(row);
+		}
+
+		/**
+		 * @since v1.1.0
+		 * @return 추가된 행으로 생성한 {@link Table}
+		 */
+		public Table build() {
+			int columnCount = columns.size();
+			Column[] built = new Column[columnCount];
+			for(int i=0; i<columnCount; i++) built[i] = columns.get(i).build(rowCount);
+			boolean sameWidth = !ragged && (rowCount == 0 || rowWidths[0] == columnCount);
+			return new Table(rowCount, built, sameWidth ? null : Arrays.copyOf(rowWidths, rowCount));
+		}
+	}
+
+	/**
+	 * 열 값을 사전 번호로 변환해 저장. 번호 0은 빈 문자열이며, 열이 없는 행은 빈 문자열로 처리
+	 */
+	private static class ColumnBuilder {
+
+		private final Map<String, Integer> index = new HashMap<String, Integer>();
+		private final List<String> dictionary = new ArrayList<String>();
+		private char[] charCodes = new char[16];
+		private int[] intCodes = null;
+
+		private ColumnBuilder() {
+			dictionary.add("");
+			index.put("", 0);
+		}
+
+		private void set(int row, String value) {
+			Integer code = index.get(value);
+			if(code == null) {
+				code = dictionary.size();
+				dictionary.add(value);
+				index.put(value, code);
+			}
+			if(intCodes == null && code > Character.MAX_VALUE) {
+				intCodes = new int[charCodes.length];
+				for(int i=0; i<charCodes.length; i++) intCodes[i] = charCodes[i];
+				charCodes = null;
+			}
+			if(intCodes != null) {
+				if(row >= intCodes.length) intCodes = Arrays.copyOf(intCodes, Math.max(row+1, intCodes.length*2));
+				intCodes[row] = code;
+			} else {
+				if(row >= charCodes.length) charCodes = Arrays.copyOf(charCodes, Math.max(row+1, charCodes.length*2));
+				charCodes[row] = (char)code.intValue();
+			}
+		}
+
+		private Column build(int rowCount) {
+			String[] values = dictionary.toArray(new String[0]);
+			if(intCodes != null) return new Column(values, null, Arrays.copyOf(intCodes, rowCount));
+			return new Column(values, Arrays.copyOf(charCodes, rowCount), null);
+		}
+	}
+}
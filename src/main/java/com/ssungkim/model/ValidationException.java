@@ -0,0 +1,31 @@
+package com.ssungkim.model;
+
+import java.util.List;
+
+/**
+ * 여러 값의 검증 결과를 한 번에 전달하는 예외. 첫번째 문제에서 멈추지 않고 발견된 모든 문제를 담음
+ * @since v1.1.0
+ * @serial
+ */
+@SuppressWarnings("serial")
+public class ValidationException extends IllegalArgumentException {
+
+	private final List<String> problems;
+
+	/**
+	 * @since v1.1.0
+	 * @param problems 발견된 문제 목록
+	 */
+	public ValidationException(List<String> problems) {
+		super(String.join(" / ", problems));
+		this.problems = List.copyOf(problems);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 발견된 문제 목록. 변경할 수 없음
+	 */
+	public List<String> getProblems() {
+		return problems;
+	}
+}
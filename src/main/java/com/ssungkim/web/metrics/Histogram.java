@@ -0,0 +1,121 @@
+package com.ssungkim.web.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 0 이상의 long 값을 2의 거듭제곱 구간별로 집계하는 히스토그램. 구간마다 {@link LongAdder}를 사용하므로 여러 스레드에서 잠금 없이 기록 가능.
+ * 백분위 값은 해당 값이 속한 구간의 상한으로 계산하므로 실제 값의 2배 이내의 근사값
+ * @since v1.1.0
+ */
+public class Histogram {
+
+	private static final int BUCKET_COUNT = 64;
+
+	private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+	private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+	/**
+	 * @since v1.1.0
+	 */
+	public Histogram() {
+		for(int i=0; i<BUCKET_COUNT; i++) buckets[i] = new LongAdder();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param value 기록할 값. 0보다 작을 경우 0으로 기록
+	 */
+	public void record(long value) {
+		if(value < 0) value = 0;
+		buckets[bucketOf(value)].increment();
+		count.increment();
+		sum.add(value);
+		min.accumulate(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 기록된 값의 개수
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 기록된 값의 합
+	 */
+	public long getSum() {
+		return sum.sum();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 기록된 값 중 최소값. 기록된 값이 없을 경우 0 리턴
+	 */
+	public long getMin() {
+		return getCount() == 0 ? 0 : min.get();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 기록된 값 중 최대값. 기록된 값이 없을 경우 0 리턴
+	 */
+	public long getMax() {
+		return getCount() == 0 ? 0 : max.get();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 기록된 값의 평균. 기록된 값이 없을 경우 0 리턴
+	 */
+	public double getMean() {
+		long n = getCount();
+		return n == 0 ? 0 : (double)getSum()/n;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param percentile 0 이상 100 이하의 백분위. ex) 50, 99
+	 * @return 백분위에 해당하는 값이 속한 구간의 상한. 최대값보다 클 경우 최대값 리턴. 기록된 값이 없을 경우 0 리턴
+	 * @throws IllegalArgumentException percentile이 0보다 작거나 100보다 클 경우
+	 */
+	public long getPercentile(double percentile) throws IllegalArgumentException {
+		if(percentile < 0 || percentile > 100) throw new IllegalArgumentException("Percentile must be between 0 and 100. Percentile : "+percentile);
+		long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for(int i=0; i<BUCKET_COUNT; i++) {
+			counts[i] = buckets[i].sum();
+			total += counts[i];
+		}
+		if(total == 0) return 0;
+		long rank = Math.max(1, (long)Math.ceil(total*percentile/100));
+		long seen = 0;
+		for(int i=0; i<BUCKET_COUNT; i++) {
+			seen += counts[i];
+			if(seen >= rank) return Math.min(upperBound(i), getMax());
+		}
+		return getMax();
+	}
+
+	@Override
+	public String toString() {
+		return "count="+getCount()+", mean="+getMean()+", min="+getMin()+", p50="+getPercentile(50)+", p99="+getPercentile(99)+", max="+getMax();
+	}
+
+	/**
+	 * @return 0은 0번, 1은 1번, 2~3은 2번, 4~7은 3번과 같이 값의 비트 길이에 해당하는 구간 번호
+	 */
+	private static int bucketOf(long value) {
+		return Math.min(BUCKET_COUNT-1, 64-Long.numberOfLeadingZeros(value));
+	}
+
+	private static long upperBound(int bucket) {
+		return bucket >= BUCKET_COUNT-1 ? Long.MAX_VALUE : (1L<<bucket)-1;
+	}
+}
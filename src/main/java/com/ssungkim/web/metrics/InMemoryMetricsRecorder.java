@@ -0,0 +1,127 @@
+package com.ssungkim.web.metrics;
+
+import com.ssungkim.model.RegexType;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전달받은 값을 메모리의 카운터와 {@link Histogram}에 누적하는 {@link MetricsRecorder}. 다른 모니터링 도구로 옮기기 전 확인용 또는 주기적 수집용으로 사용.
+ * <pre>
+ * 카운터 : parse.{format}.count, parse.{format}.failure, download.count, download.failure, upload.count, upload.failure, sanitize.{type}.count, sanitize.{type}.matched
+ * 히스토그램 : parse.{format}.rowsPerSecond, parse.{format}.bytes, parse.{format}.latencyMicros, download.bytes, download.latencyMicros, upload.bytes
+ * </pre>
+ * @since v1.1.0
+ */
+public class InMemoryMetricsRecorder implements MetricsRecorder {
+
+	private final Map<String, LongAdder> counters = new ConcurrentHashMap<String, LongAdder>();
+	private final Map<String, Histogram> histograms = new ConcurrentHashMap<String, Histogram>();
+
+	@Override
+	public void recordParse(String format, long rows, long bytes, long elapsedNanos, boolean success) {
+		String prefix = "parse."+format;
+		increment(prefix+".count");
+		if(!success) {
+			increment(prefix+".failure");
+			return;
+		}
+		histogram(prefix+".bytes").record(bytes);
+		histogram(prefix+".latencyMicros").record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+		if(elapsedNanos > 0) histogram(prefix+".rowsPerSecond").record((long)(rows*1_000_000_000.0/elapsedNanos));
+	}
+
+	@Override
+	public void recordDownload(long bytes, long elapsedNanos, boolean success) {
+		increment("download.count");
+		if(!success) {
+			increment("download.failure");
+			return;
+		}
+		histogram("download.bytes").record(bytes);
+		histogram("download.latencyMicros").record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+	}
+
+	@Override
+	public void recordUpload(long bytes, boolean success) {
+		increment("upload.count");
+		if(!success) {
+			increment("upload.failure");
+			return;
+		}
+		histogram("upload.bytes").record(bytes);
+	}
+
+	@Override
+	public void recordSanitize(RegexType type, boolean matched) {
+		String prefix = "sanitize."+type.name();
+		increment(prefix+".count");
+		if(matched) increment(prefix+".matched");
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param name 카운터 이름
+	 * @return 카운터 값. 기록된 적이 없을 경우 0 리턴
+	 */
+	public long getCount(String name) {
+		LongAdder counter = counters.get(name);
+		return counter == null ? 0 : counter.sum();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param name 히스토그램 이름
+	 * @return 이름에 해당하는 {@link Histogram}. 기록된 적이 없을 경우 null 리턴
+	 */
+	public Histogram getHistogram(String name) {
+		return histograms.get(name);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 이름 순으로 정렬된 모든 카운터 값. 호출 시점의 값을 복사한 변경할 수 없는 {@link Map}
+	 */
+	public Map<String, Long> getCounters() {
+		Map<String, Long> snapshot = new TreeMap<String, Long>();
+		counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+		return Collections.unmodifiableMap(snapshot);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 이름 순으로 정렬된 모든 {@link Histogram}. 변경할 수 없는 {@link Map}이며 {@link Histogram}은 이후 기록되는 값도 반영
+	 */
+	public Map<String, Histogram> getHistograms() {
+		return Collections.unmodifiableMap(new TreeMap<String, Histogram>(histograms));
+	}
+
+	/**
+	 * 누적된 모든 카운터와 히스토그램을 삭제
+	 * @since v1.1.0
+	 */
+	public void clear() {
+		counters.clear();
+		histograms.clear();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		getCounters().forEach((name, value) -> sb.append(name).append(" : ").append(value).append('\n'));
+		getHistograms().forEach((name, value) -> sb.append(name).append(" : ").append(value).append('\n'));
+		return sb.toString();
+	}
+
+	private void increment(String name) {
+		counters.computeIfAbsent(name, k -> new LongAdder()).increment();
+	}
+
+	private Histogram histogram(String name) {
+		return histograms.computeIfAbsent(name, k -> new Histogram());
+	}
+}
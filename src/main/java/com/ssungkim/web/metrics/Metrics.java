@@ -0,0 +1,32 @@
+package com.ssungkim.web.metrics;
+
+/**
+ * 서비스 클래스들이 사용하는 {@link MetricsRecorder}를 보관. 설정하지 않을 경우 {@link MetricsRecorder#NOOP} 사용
+ * <pre>
+ * InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+ * Metrics.setRecorder(recorder);
+ * </pre>
+ * @since v1.1.0
+ */
+public final class Metrics {
+
+	private static volatile MetricsRecorder recorder = MetricsRecorder.NOOP;
+
+	private Metrics() {}
+
+	/**
+	 * @since v1.1.0
+	 * @param recorder 서비스 처리 결과를 전달받을 {@link MetricsRecorder}. null일 경우 {@link MetricsRecorder#NOOP} 사용
+	 */
+	public static void setRecorder(MetricsRecorder recorder) {
+		Metrics.recorder = recorder == null ? MetricsRecorder.NOOP : recorder;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 현재 설정된 {@link MetricsRecorder}
+	 */
+	public static MetricsRecorder recorder() {
+		return recorder;
+	}
+}
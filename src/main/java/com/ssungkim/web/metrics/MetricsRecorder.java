@@ -0,0 +1,52 @@
+package com.ssungkim.web.metrics;
+
+import com.ssungkim.model.RegexType;
+
+/**
+ * 파일 파싱, 업로드, 다운로드, 정규식 처리 결과를 전달받는 계측 인터페이스.
+ * 모든 메소드는 아무 작업도 하지 않는 기본 구현을 가지므로 필요한 메소드만 구현해 사용하는 모니터링 도구로 전달.
+ * 서비스 처리 중 호출되므로 예외를 던지지 않아야 하며, 여러 스레드에서 동시에 호출됨
+ * @since v1.1.0
+ * @see Metrics#setRecorder(MetricsRecorder)
+ * @see InMemoryMetricsRecorder
+ */
+public interface MetricsRecorder {
+
+	/**
+	 * 아무 작업도 하지 않는 기본 {@link MetricsRecorder}
+	 * @since v1.1.0
+	 */
+	MetricsRecorder NOOP = new MetricsRecorder() {};
+
+	/**
+	 * @since v1.1.0
+	 * @param format 파일 형식. xls, xlsx, csv, txt
+	 * @param rows 전달된 행의 개수
+	 * @param bytes 읽은 파일 크기(byte)
+	 * @param elapsedNanos 파싱에 걸린 시간(ns)
+	 * @param success 파싱 성공 여부. 예외 발생 또는 취소 시 false
+	 */
+	default void recordParse(String format, long rows, long bytes, long elapsedNanos, boolean success) {}
+
+	/**
+	 * @since v1.1.0
+	 * @param bytes 전송된 크기(byte). Tomcat sendfile을 사용한 경우 파일 크기
+	 * @param elapsedNanos 다운로드에 걸린 시간(ns)
+	 * @param success 다운로드 성공 여부
+	 */
+	default void recordDownload(long bytes, long elapsedNanos, boolean success) {}
+
+	/**
+	 * @since v1.1.0
+	 * @param bytes 업로드된 파일 크기(byte)
+	 * @param success 파일 저장 성공 여부
+	 */
+	default void recordUpload(long bytes, boolean success) {}
+
+	/**
+	 * @since v1.1.0
+	 * @param type {@link RegexType}
+	 * @param matched 값에 타입에 해당하는 정규식에 매칭되는 단어가 있었는지 여부
+	 */
+	default void recordSanitize(RegexType type, boolean matched) {}
+}
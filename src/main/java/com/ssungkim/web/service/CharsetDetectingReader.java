@@ -0,0 +1,193 @@
+package com.ssungkim.web.service;
+
+import org.mozilla.universalchardet.UniversalDetector;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link InputStream}의 앞부분만 읽어 문자 인코딩을 판단한 후, 같은 스트림을 다시 열지 않고 이어서 디코딩하는 {@link Reader}.
+ * BOM, UTF-8 형식 검사 순서로 판단하고, 판단할 수 없을 경우에만 {@link UniversalDetector}를 사용.
+ * 앞부분이 ASCII 문자만으로 되어 있으면 ASCII 문자는 그대로 전달하면서 처음 ASCII가 아닌 문자가 나온 위치에서 인코딩을 판단
+ * @since v1.1.0
+ */
+public class CharsetDetectingReader extends Reader {
+
+	private static final Class<CharsetDetectingReader> thisClass = CharsetDetectingReader.class;
+
+	private static final int PREFIX_SIZE = 64*1024;
+	private static final Charset DEFAULT_CHARSET = Charset.forName("euc-kr");
+	private static final ThreadLocal<UniversalDetector> detectors = ThreadLocal.withInitial(() -> new UniversalDetector(null));
+
+	private final Charset defaultCharset;
+	private Charset charset;
+	private Reader reader;
+	private InputStream in;
+	private byte[] ascii;
+	private int asciiPos;
+	private int asciiLength;
+
+	/**
+	 * @since v1.1.0
+	 * @param is 문자 데이터를 읽어올 {@link InputStream}. 인코딩을 판단할 수 없을 경우 EUC-KR로 디코딩
+	 * @throws IOException 데이터를 읽지 못한 경우
+	 */
+	public CharsetDetectingReader(InputStream is) throws IOException {
+		this(is, DEFAULT_CHARSET);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param is 문자 데이터를 읽어올 {@link InputStream}
+	 * @param defaultCharset 인코딩을 판단할 수 없을 경우 사용할 {@link Charset}
+	 * @throws IOException 데이터를 읽지 못한 경우
+	 */
+	public CharsetDetectingReader(InputStream is, Charset defaultCharset) throws IOException {
+		this.defaultCharset = defaultCharset;
+		byte[] prefix = is.readNBytes(PREFIX_SIZE);
+		int length = prefix.length;
+		int bomLength = 0;
+		Charset detected = null;
+		if(startsWith(prefix, 0x00, 0x00, 0xFE, 0xFF)) { detected = Charset.forName("UTF-32BE"); bomLength = 4; }
+		else if(startsWith(prefix, 0xFF, 0xFE, 0x00, 0x00)) { detected = Charset.forName("UTF-32LE"); bomLength = 4; }
+		else if(startsWith(prefix, 0xEF, 0xBB, 0xBF)) { detected = StandardCharsets.UTF_8; bomLength = 3; }
+		else if(startsWith(prefix, 0xFE, 0xFF)) { detected = StandardCharsets.UTF_16BE; bomLength = 2; }
+		else if(startsWith(prefix, 0xFF, 0xFE)) { detected = StandardCharsets.UTF_16LE; bomLength = 2; }
+		else {
+			int utf8 = isUtf8(prefix, length == PREFIX_SIZE);
+			if(utf8 == 0 && length == PREFIX_SIZE) {
+				// ASCII 문자만 있는 앞부분으로는 판단할 수 없으므로 ASCII가 아닌 문자가 나올 때까지 판단을 미룸
+				this.in = is;
+				this.ascii = prefix;
+				this.asciiLength = length;
+				return;
+			}
+			detected = utf8 > 0 ? StandardCharsets.UTF_8 : detect(prefix);
+		}
+		this.charset = detected == null ? defaultCharset : detected;
+		InputStream prefixStream = new ByteArrayInputStream(prefix, bomLength, length-bomLength);
+		this.reader = new InputStreamReader(new SequenceInputStream(prefixStream, is), charset);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 데이터를 디코딩하는데 사용하는 {@link Charset}. ASCII 문자만 읽어 아직 판단하지 않은 경우 기본 {@link Charset} 리턴
+	 */
+	public Charset getCharset() {
+		return charset == null ? defaultCharset : charset;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if(reader == null) {
+			if(len == 0) return 0;
+			while(asciiPos == asciiLength) {
+				asciiLength = in.read(ascii, 0, ascii.length);
+				asciiPos = 0;
+				if(asciiLength < 0) {
+					asciiLength = 0;
+					return -1;
+				}
+			}
+			int count = 0;
+			while(count < len && asciiPos < asciiLength && ascii[asciiPos] >= 0) cbuf[off+count++] = (char)ascii[asciiPos++];
+			if(count > 0) return count;
+			startDecoding();
+		}
+		return reader.read(cbuf, off, len);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if(reader != null) reader.close();
+		else in.close();
+	}
+
+	/**
+	 * ASCII가 아닌 첫번째 문자부터 앞부분 크기만큼 읽어 인코딩을 판단하고 이후 데이터는 판단한 {@link Charset}으로 디코딩
+	 */
+	private void startDecoding() throws IOException {
+		int remain = asciiLength-asciiPos;
+		byte[] sample = new byte[PREFIX_SIZE];
+		System.arraycopy(ascii, asciiPos, sample, 0, remain);
+		int length = remain+in.readNBytes(sample, remain, PREFIX_SIZE-remain);
+		if(length < PREFIX_SIZE) sample = Arrays.copyOf(sample, length);
+		Charset detected = isUtf8(sample, length == PREFIX_SIZE) > 0 ? StandardCharsets.UTF_8 : detect(sample);
+		this.charset = detected == null ? defaultCharset : detected;
+		this.reader = new InputStreamReader(new SequenceInputStream(new ByteArrayInputStream(sample), in), charset);
+		this.ascii = null;
+	}
+
+	private static boolean startsWith(byte[] data, int... bom) {
+		if(data.length < bom.length) return false;
+		for(int i=0; i<bom.length; i++) {
+			if((data[i] & 0xFF) != bom[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param data 검사할 데이터
+	 * @param truncated 데이터가 스트림의 앞부분만 잘라낸 것인지 여부. true일 경우 끝에서 잘린 UTF-8 문자는 올바른 것으로 판단
+	 * @return ASCII가 아닌 올바른 UTF-8 문자가 있을 경우 1, ASCII 문자만 있을 경우 0, 올바른 UTF-8 형식이 아닐 경우 -1 리턴
+	 */
+	private static int isUtf8(byte[] data, boolean truncated) {
+		int length = data.length;
+		int result = 0;
+		int i = 0;
+		while(i < length) {
+			int b = data[i] & 0xFF;
+			if(b < 0x80) {
+				i++;
+				continue;
+			}
+			int count;
+			int min = 0x80;
+			int max = 0xBF;
+			if(b >= 0xC2 && b <= 0xDF) count = 1;
+			else if(b >= 0xE0 && b <= 0xEF) {
+				count = 2;
+				if(b == 0xE0) min = 0xA0;
+				else if(b == 0xED) max = 0x9F;
+			} else if(b >= 0xF0 && b <= 0xF4) {
+				count = 3;
+				if(b == 0xF0) min = 0x90;
+				else if(b == 0xF4) max = 0x8F;
+			} else return -1;
+			for(int j=1; j<=count && i+j<length; j++) {
+				int c = data[i+j] & 0xFF;
+				if(c < (j == 1 ? min : 0x80) || c > (j == 1 ? max : 0xBF)) return -1;
+			}
+			if(i+count >= length) return truncated ? 1 : -1;
+			result = 1;
+			i += count+1;
+		}
+		return result;
+	}
+
+	/**
+	 * @param data 검사할 데이터
+	 * @return {@link UniversalDetector}로 판단한 {@link Charset}. 판단할 수 없거나 지원하지 않는 인코딩일 경우 null 리턴
+	 */
+	private static Charset detect(byte[] data) {
+		UniversalDetector detector = detectors.get();
+		try {
+			detector.handleData(data, 0, data.length);
+			detector.dataEnd();
+			String encoding = detector.getDetectedCharset();
+			return encoding == null || !Charset.isSupported(encoding) ? null : Charset.forName(encoding);
+		} catch(Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for detect charset.", e);
+			return null;
+		} finally {
+			detector.reset();
+		}
+	}
+}
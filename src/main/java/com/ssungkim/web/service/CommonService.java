@@ -1,37 +1,39 @@
 package com.ssungkim.web.service;
 
 import com.ssungkim.model.RegexType;
+import com.ssungkim.web.metrics.Metrics;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.io.FilenameUtils;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
 
 public class CommonService {
 	
 	private static final Class<CommonService> thisClass = CommonService.class;
 	
-	/**
-	 * @since v1.0.0
-	 * @param type {@link RegexType}
-	 * @return 타입에 해당하는 정규식 문자열 리턴
-	 * @throws IllegalArgumentException 올바르지 않은 {@link RegexType}이 파라미터로 들어올 경우
-	 */
-	private static String regex(RegexType type) throws IllegalArgumentException {
-		String regex = "";
-		if(type == RegexType.ID) regex = "[^a-zA-Z0-9_]";
-		else if(type == RegexType.PASSWORD) regex = "[^a-zA-Z0-9!@#$%^&*?_~]";		// !@#$%^&*?_~
-		else if(type == RegexType.EMAIL) regex = "^([\\S\\d]+)@(\\S+)[.](\\S+.?\\S+)$";
-		else if(type == RegexType.EXPRESSION) regex = "(&gt;)|(&lt;)|(&amp;)|(&quot;)|(&#39;)";		// > < & " '
-		else if(type == RegexType.INTEGER) regex = "[^0-9-]";
-		else if(type == RegexType.DOUBLE) regex = "[^0-9.-]";
-		else throw new IllegalArgumentException();
-		return regex;
-	}
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+	
+	private static volatile int downloadBufferSize = 64*1024;
+	private static volatile long downloadTimeout = 10*60*1000L;
 	
 	/**
 	 * @since v1.0.0
@@ -42,14 +44,7 @@ public class CommonService {
 	 */
 	public static int checkMatchingRegexFromDaata(RegexType type, String data) throws IllegalArgumentException {
 		try{
-			Pattern pattern = Pattern.compile(regex(type));
-			Matcher matcher = pattern.matcher(data);
-			int result = 0;
-			while(matcher.find()) {
-				result = -1;
-				break;
-			}
-			return result;
+			return RegexSanitizer.hasMatch(type, data) ? -1 : 0;
 		} catch(IllegalArgumentException e){
 			LoggingService.error(thisClass, e.getClass()+" for matching regex from data. RegexType : "+type+" / Data : "+data, e);
 			throw new IllegalArgumentException();
@@ -65,13 +60,7 @@ public class CommonService {
 	 */
 	public static String replaceMatchingValueRegexFromData(RegexType type, String data) throws IllegalArgumentException {
 		try{
-			Pattern pattern = Pattern.compile(regex(type));
-			Matcher matcher = pattern.matcher(data);
-			while(matcher.find()) {
-				if(type == RegexType.EXPRESSION) data = data.replace("&gt;", ">").replace("&lt;", "<").replace("&amp;", "&").replace("&quot;", "\"").replace("&#39;", "'");
-				else data = data.replace(matcher.group(), "");
-			}
-			return data;
+			return RegexSanitizer.replace(type, data);
 		} catch(IllegalArgumentException e){
 			LoggingService.error(thisClass, e.getClass()+" for matching regex from data. RegexType : "+type+" / Data : "+data, e);
 			throw new IllegalArgumentException();
@@ -87,14 +76,7 @@ public class CommonService {
 	 */
 	public static String getInvalidRegexValueFromData(RegexType type, String data) throws IllegalArgumentException {
 		try{
-			Pattern pattern = Pattern.compile(regex(type));
-			StringBuilder sb = new StringBuilder();
-			Matcher matcher = pattern.matcher(data);
-			while(matcher.find()) {
-				String s = matcher.group();
-				sb.append(s);
-			}
-			return sb.toString();
+			return RegexSanitizer.invalidValue(type, data);
 		} catch(IllegalArgumentException e){
 			LoggingService.error(thisClass, e.getClass()+" for matching regex from data. RegexType : "+type+" / Data : "+data, e);
 			throw new IllegalArgumentException();
@@ -115,43 +97,271 @@ public class CommonService {
 		return ip;
 	 }
 	
+	/**
+	 * @since v1.1.0
+	 * @param bufferSize Tomcat sendfile을 사용할 수 없을 때 파일 다운로드에 사용할 버퍼 크기(byte). 기본값 64KB
+	 * @throws IllegalArgumentException bufferSize가 0 이하일 경우
+	 */
+	public static void setDownloadBufferSize(int bufferSize) throws IllegalArgumentException {
+		if(bufferSize <= 0) throw new IllegalArgumentException("Buffer size must be positive. Size : "+bufferSize);
+		downloadBufferSize = bufferSize;
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param timeout 비동기 파일 다운로드를 완료하지 못한 경우 전송을 중단할 시간(ms). 기본값 10분
+	 * @throws IllegalArgumentException timeout이 0 이하일 경우
+	 * @see #downloadFileAsync(HttpServletRequest, HttpServletResponse, String, String)
+	 */
+	public static void setDownloadTimeout(long timeout) throws IllegalArgumentException {
+		if(timeout <= 0) throw new IllegalArgumentException("Timeout must be positive. Timeout : "+timeout);
+		downloadTimeout = timeout;
+	}
+	
 	/**
 	 * @since v1.0.0
 	 * @param response {@link HttpServletResponse}
 	 * @param directory 저장 파일 경로
 	 * @param name 저장 파일 이름
 	 */
-	@SuppressWarnings("DefaultCharset")
 	public static void downloadFile(HttpServletResponse response, String directory, String name) {
+		downloadFile(null, response, directory, name);
+	}
+	
+	/**
+	 * Tomcat이 sendfile을 지원할 경우 파일 전송을 커널에 맡기고, 지원하지 않을 경우 {@link FileChannel}에서 설정된 크기의 버퍼로 복사
+	 * @since v1.1.0
+	 * @param request {@link HttpServletRequest}. null일 경우 sendfile을 사용하지 않음
+	 * @param response {@link HttpServletResponse}
+	 * @param directory 저장 파일 경로
+	 * @param name 저장 파일 이름
+	 */
+	public static void downloadFile(HttpServletRequest request, HttpServletResponse response, String directory, String name) {
 		File f = new File(directory, FilenameUtils.getName(name));
-		FileInputStream fis = null;
+		long time = System.nanoTime();
+		long written = 0;
+		boolean success = false;
+		FileChannel fc = null;
 		ServletOutputStream sos = null;
 		try {
-			if(f != null) {
-				fis = new FileInputStream(f);
-				sos = response.getOutputStream();
-				response.reset();
-				response.setContentType("application/file; charset=UTF-8");
-				response.setCharacterEncoding("UTF-8");
-				response.setHeader("Content-Disposition", "Attachment;Filename=\""+new String(f.getName().getBytes(), "ISO-8859-1")+"\"");
-				
-				byte[] outputByte = new byte[4096];
-				int read = 0;
-				while((read = fis.read(outputByte)) != -1 ){
-					sos.write(outputByte , 0, read);
-				}
-				fis.close();
-				sos.flush();
-				sos.close();
+			fc = FileChannel.open(f.toPath(), StandardOpenOption.READ);
+			long length = fc.size();
+			setDownloadHeaders(response, f.getName(), length);
+			if(request != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+				request.setAttribute(SENDFILE_FILENAME, f.getCanonicalPath());
+				request.setAttribute(SENDFILE_START, 0L);
+				request.setAttribute(SENDFILE_END, length);
+				written = length;
+				success = true;
+				return;
+			}
+			sos = response.getOutputStream();
+			ByteBuffer buffer = ByteBuffer.allocate((int)Math.max(1, Math.min(downloadBufferSize, length)));
+			while(fc.read(buffer) != -1) {
+				sos.write(buffer.array(), 0, buffer.position());
+				written += buffer.position();
+				buffer.clear();
 			}
+			sos.flush();
+			success = true;
 		} catch(Exception e) {
 			LoggingService.error(thisClass, "Exception for download file. File name : "+name, e);
 		} finally {
-			try { if(fis != null) fis.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close FileInputStream.", e); }
+			try { if(fc != null) fc.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close FileChannel.", e); }
+			try { if(sos != null) sos.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close ServletOutputStream.", e); }
+			Metrics.recorder().recordDownload(written, System.nanoTime()-time, success);
+		}
+	}
+	
+	/**
+	 * 비동기 요청을 시작하고 {@link WriteListener}로 출력 가능할 때마다 파일을 전송하므로 전송 중에는 요청 스레드를 점유하지 않음.
+	 * 비동기 요청을 지원하지 않거나 Tomcat sendfile을 사용할 수 있는 경우 {@link #downloadFile(HttpServletRequest, HttpServletResponse, String, String)}로 처리.
+	 * {@link #setDownloadTimeout(long)}로 설정한 시간 안에 전송을 완료하지 못하거나 오류가 발생하면 파일을 닫고 비동기 요청을 종료
+	 * @since v1.1.0
+	 * @param request {@link HttpServletRequest}
+	 * @param response {@link HttpServletResponse}
+	 * @param directory 저장 파일 경로
+	 * @param name 저장 파일 이름
+	 */
+	public static void downloadFileAsync(HttpServletRequest request, HttpServletResponse response, String directory, String name) {
+		if(!request.isAsyncSupported() || Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			downloadFile(request, response, directory, name);
+			return;
+		}
+		File f = new File(directory, FilenameUtils.getName(name));
+		long time = System.nanoTime();
+		FileChannel fc = null;
+		AsyncContext ac = null;
+		boolean started = false;
+		try {
+			fc = FileChannel.open(f.toPath(), StandardOpenOption.READ);
+			long length = fc.size();
+			setDownloadHeaders(response, f.getName(), length);
+			ac = request.startAsync();
+			ac.setTimeout(downloadTimeout);
+			ServletOutputStream sos = response.getOutputStream();
+			FileWriteListener listener = new FileWriteListener(fc, ac, sos, (int)Math.max(1, Math.min(downloadBufferSize, length)), name, time);
+			ac.addListener(listener);
+			sos.setWriteListener(listener);
+			started = true;
+		} catch(Exception e) {
+			LoggingService.error(thisClass, "Exception for download file asynchronously. File name : "+name, e);
+		} finally {
+			if(!started) {
+				try { if(fc != null) fc.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close FileChannel.", e); }
+				try { if(ac != null) ac.complete(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for complete AsyncContext.", e); }
+				Metrics.recorder().recordDownload(0, System.nanoTime()-time, false);
+			}
+		}
+	}
+	
+	/**
+	 * 행을 읽는 대로 xlsx 파일로 변환해 응답으로 전송하므로 서버에 파일을 저장하거나 전체 데이터를 메모리에 올리지 않음
+	 * @since v1.1.0
+	 * @param response {@link HttpServletResponse}
+	 * @param name 다운로드 파일 이름
+	 * @param rows xlsx 파일에 순서대로 입력될 행 {@link Iterator}
+	 * @return 전송된 행의 개수. 예외 발생 시 -1 리턴
+	 * @see FileService#writeXlsx(Iterator, OutputStream, String, int, boolean)
+	 */
+	public static long downloadXlsx(HttpServletResponse response, String name, Iterator<? extends List<String>> rows) {
+		ServletOutputStream sos = null;
+		try {
+			setDownloadHeaders(response, FilenameUtils.getName(name), -1);
+			sos = response.getOutputStream();
+			return FileService.writeXlsx(rows, sos);
+		} catch(Exception e) {
+			LoggingService.error(thisClass, "Exception for download xlsx. File name : "+name, e);
+			return -1;
+		} finally {
+			try { if(sos != null) sos.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close ServletOutputStream.", e); }
+		}
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param response {@link HttpServletResponse}
+	 * @param name 다운로드 파일 이름
+	 * @param rows CSV 파일에 순서대로 입력될 행 {@link Iterator}
+	 * @return 전송된 행의 개수. 예외 발생 시 -1 리턴
+	 * @see #downloadText(HttpServletResponse, String, Iterator, char, Charset, boolean)
+	 */
+	public static long downloadCsv(HttpServletResponse response, String name, Iterator<? extends List<String>> rows) {
+		return downloadText(response, name, rows, ',', StandardCharsets.UTF_8, true);
+	}
+	
+	/**
+	 * Content-Length 없이 행을 읽는 대로 전송하므로 chunked 방식으로 응답하며, 서버에 파일을 저장하거나 전체 데이터를 메모리에 올리지 않음
+	 * @since v1.1.0
+	 * @param response {@link HttpServletResponse}
+	 * @param name 다운로드 파일 이름
+	 * @param rows 순서대로 입력될 행 {@link Iterator}
+	 * @param delimiter 필드 구분자. CSV는 ',', TSV는 '\t'
+	 * @param charset 출력할 문자 인코딩
+	 * @param bom BOM 출력 여부. Excel에서 UTF-8 CSV 파일을 열 경우 필요
+	 * @return 전송된 행의 개수. 예외 발생 시 -1 리턴
+	 * @see FileService#writeText(Iterator, OutputStream, char, Charset, boolean)
+	 */
+	public static long downloadText(HttpServletResponse response, String name, Iterator<? extends List<String>> rows, char delimiter, Charset charset, boolean bom) {
+		ServletOutputStream sos = null;
+		try {
+			setDownloadHeaders(response, FilenameUtils.getName(name), -1);
+			sos = response.getOutputStream();
+			return FileService.writeText(rows, sos, delimiter, charset, bom);
+		} catch(Exception e) {
+			LoggingService.error(thisClass, "Exception for download text. File name : "+name, e);
+			return -1;
+		} finally {
 			try { if(sos != null) sos.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close ServletOutputStream.", e); }
 		}
 	}
 	
+	/**
+	 * @since v1.1.0
+	 * @param response {@link HttpServletResponse}
+	 * @param name 다운로드 파일 이름
+	 * @param length 파일 크기(byte). 0보다 작을 경우 Content-Length를 설정하지 않음
+	 * @throws UnsupportedEncodingException 파일 이름을 ISO-8859-1로 변환하지 못할 경우
+	 */
+	@SuppressWarnings("DefaultCharset")
+	private static void setDownloadHeaders(HttpServletResponse response, String name, long length) throws UnsupportedEncodingException {
+		response.reset();
+		response.setContentType("application/file; charset=UTF-8");
+		response.setCharacterEncoding("UTF-8");
+		response.setHeader("Content-Disposition", "Attachment;Filename=\""+new String(name.getBytes(), "ISO-8859-1")+"\"");
+		if(length >= 0) response.setContentLengthLong(length);
+	}
+	
+	/**
+	 * 비동기 파일 다운로드에서 {@link ServletOutputStream}이 출력 가능할 때마다 {@link FileChannel}의 데이터를 전송하는 {@link WriteListener}.
+	 * {@link AsyncListener}로도 등록해 시간 초과나 오류로 비동기 요청이 끝나는 경우에도 파일을 닫음
+	 * @since v1.1.0
+	 */
+	private static class FileWriteListener implements WriteListener, AsyncListener {
+		
+		private final FileChannel fc;
+		private final AsyncContext ac;
+		private final ServletOutputStream sos;
+		private final ByteBuffer buffer;
+		private final String name;
+		private final long startTime;
+		private long written = 0;
+		private boolean closed = false;
+		
+		private FileWriteListener(FileChannel fc, AsyncContext ac, ServletOutputStream sos, int bufferSize, String name, long startTime) {
+			this.fc = fc;
+			this.ac = ac;
+			this.sos = sos;
+			this.buffer = ByteBuffer.allocate(bufferSize);
+			this.name = name;
+			this.startTime = startTime;
+		}
+		
+		@Override
+		public void onWritePossible() throws IOException {
+			while(sos.isReady()) {
+				buffer.clear();
+				if(fc.read(buffer) == -1) {
+					close(true);
+					return;
+				}
+				sos.write(buffer.array(), 0, buffer.position());
+				written += buffer.position();
+			}
+		}
+		
+		@Override
+		public void onError(Throwable t) {
+			LoggingService.error(thisClass, t.getClass()+" for download file asynchronously. File name : "+name, t);
+			close(false);
+		}
+		
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			LoggingService.info(thisClass, "Timeout for download file asynchronously. File name : {} / Written : {}", name, written);
+			close(false);
+		}
+		
+		@Override
+		public void onError(AsyncEvent event) {
+			onError(event.getThrowable());
+		}
+		
+		@Override
+		public void onComplete(AsyncEvent event) {}
+		
+		@Override
+		public void onStartAsync(AsyncEvent event) {}
+		
+		private synchronized void close(boolean success) {
+			if(closed) return;
+			closed = true;
+			try { fc.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close FileChannel.", e); }
+			try { ac.complete(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for complete AsyncContext.", e); }
+			Metrics.recorder().recordDownload(written, System.nanoTime()-startTime, success);
+		}
+	}
+	
 	/**
 	 * @since v1.0.0
 	 * @param e {@link Exception}
@@ -0,0 +1,235 @@
+package com.ssungkim.web.service;
+
+import com.ssungkim.model.ReadOptions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV, TSV 데이터를 한 번의 순회로 한 행씩 읽어오는 토크나이저.
+ * 큰따옴표로 감싼 필드 안의 구분자, 줄바꿈과 두 번 연속된 큰따옴표를 처리하고, 행 끝의 빈 필드도 유지
+ * @since v1.1.0
+ */
+public class CsvTokenizer implements Closeable {
+
+	private static final int BUFFER_SIZE = 64*1024;
+
+	private final Reader reader;
+	private final char delimiter;
+	private final char quote;
+
+	private final char[] buffer = new char[BUFFER_SIZE];
+	private int pos = 0;
+	private int limit = 0;
+	private boolean eof = false;
+
+	private final StringBuilder field = new StringBuilder();
+	private int lastColumnCount = 10;
+
+	private int[] columnPositions = null;
+	private int projectedCount = 0;
+
+	/**
+	 * @since v1.1.0
+	 * @param reader 데이터를 읽어올 {@link Reader}. 내부 버퍼를 사용하므로 {@link java.io.BufferedReader}로 감쌀 필요 없음
+	 * @param delimiter 필드 구분자. ex) ',' 또는 '\t'
+	 */
+	public CsvTokenizer(Reader reader, char delimiter) {
+		this(reader, delimiter, '"');
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param reader 데이터를 읽어올 {@link Reader}. 내부 버퍼를 사용하므로 {@link java.io.BufferedReader}로 감쌀 필요 없음
+	 * @param delimiter 필드 구분자. ex) ',' 또는 '\t'
+	 * @param quote 필드를 감싸는 문자
+	 * @throws IllegalArgumentException delimiter와 quote가 같거나 줄바꿈 문자일 경우
+	 */
+	public CsvTokenizer(Reader reader, char delimiter, char quote) throws IllegalArgumentException {
+		if(delimiter == quote || isLineBreak(delimiter) || isLineBreak(quote)) throw new IllegalArgumentException("Invalid delimiter or quote. Delimiter : "+delimiter+" / Quote : "+quote);
+		this.reader = reader;
+		this.delimiter = delimiter;
+		this.quote = quote;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 다음 행의 필드 목록. 더 이상 읽을 데이터가 없을 경우 null 리턴
+	 * @throws IOException 데이터를 읽지 못한 경우
+	 */
+	public List<String> readRow() throws IOException {
+		if(!fill()) return null;
+		if(columnPositions != null) return readProjectedRow();
+		List<String> row = new ArrayList<String>(lastColumnCount);
+		while(true) {
+			if(!fill()) {
+				row.add("");
+				break;
+			}
+			row.add(readField());
+			if(!fill()) break;
+			char c = buffer[pos++];
+			if(c == delimiter) continue;
+			if(c == '\r' && fill() && buffer[pos] == '\n') pos++;
+			break;
+		}
+		lastColumnCount = row.size();
+		return row;
+	}
+
+	/**
+	 * 다음 행을 필드 값을 만들지 않고 건너뜀
+	 * @since v1.1.0
+	 * @return 건너뛴 행의 필드 개수. 더 이상 읽을 데이터가 없을 경우 -1 리턴
+	 * @throws IOException 데이터를 읽지 못한 경우
+	 */
+	public int skipRow() throws IOException {
+		if(!fill()) return -1;
+		int count = 0;
+		while(true) {
+			count++;
+			if(!fill()) break;
+			skipField();
+			if(!fill()) break;
+			char c = buffer[pos++];
+			if(c == delimiter) continue;
+			if(c == '\r' && fill() && buffer[pos] == '\n') pos++;
+			break;
+		}
+		return count;
+	}
+
+	/**
+	 * 이후 {@link #readRow()}가 지정된 열만 지정된 순서로 리턴하도록 설정. 지정하지 않은 열의 필드 값은 만들지 않고 건너뜀
+	 * @since v1.1.0
+	 * @param columns 읽어올 열 번호(0부터 시작). null일 경우 모든 열을 읽음. 행에 없는 열은 빈 문자열
+	 * @throws IllegalArgumentException 열 번호가 0보다 작거나 중복될 경우
+	 */
+	public void setColumns(int... columns) throws IllegalArgumentException {
+		if(columns == null) {
+			columnPositions = null;
+			return;
+		}
+		ReadOptions options = ReadOptions.builder().columns(columns).build();
+		columnPositions = options.columnPositions();
+		projectedCount = columns.length;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private List<String> readProjectedRow() throws IOException {
+		String[] values = new String[projectedCount];
+		Arrays.fill(values, "");
+		int column = 0;
+		while(true) {
+			if(!fill()) break;
+			if(column < columnPositions.length && columnPositions[column] >= 0) values[columnPositions[column]] = readField();
+			else skipField();
+			column++;
+			if(!fill()) break;
+			char c = buffer[pos++];
+			if(c == delimiter) continue;
+			if(c == '\r' && fill() && buffer[pos] == '\n') pos++;
+			break;
+		}
+		return new ArrayList<String>(Arrays.asList(values));
+	}
+
+	/**
+	 * 현재 위치의 필드를 문자열을 만들지 않고 건너뜀. 건너뛴 후 위치는 {@link #readField()}와 같음
+	 * @throws IOException 데이터를 읽지 못한 경우
+	 */
+	private void skipField() throws IOException {
+		if(buffer[pos] == quote) {
+			pos++;
+			while(fill()) {
+				if(buffer[pos++] != quote) continue;
+				if(fill() && buffer[pos] == quote) pos++;
+				else break;
+			}
+		}
+		while(fill()) {
+			char c = buffer[pos];
+			if(c == delimiter || isLineBreak(c)) return;
+			pos++;
+		}
+	}
+
+	/**
+	 * @return 현재 위치의 필드 값. 읽은 후 위치는 필드 뒤의 구분자 또는 줄바꿈 문자
+	 * @throws IOException 데이터를 읽지 못한 경우
+	 */
+	private String readField() throws IOException {
+		if(buffer[pos] == quote) {
+			pos++;
+			return readQuotedField();
+		}
+		int start = pos;
+		while(pos < limit) {
+			char c = buffer[pos];
+			if(c == delimiter || isLineBreak(c)) return pos == start ? "" : new String(buffer, start, pos-start);
+			pos++;
+		}
+		field.setLength(0);
+		field.append(buffer, start, pos-start);
+		return readUnquotedRest();
+	}
+
+	/**
+	 * @return 여는 큰따옴표 이후의 필드 값. 닫는 큰따옴표 뒤에 남은 문자는 필드 값에 이어붙임
+	 * @throws IOException 데이터를 읽지 못한 경우
+	 */
+	private String readQuotedField() throws IOException {
+		field.setLength(0);
+		while(fill()) {
+			char c = buffer[pos++];
+			if(c != quote) field.append(c);
+			else if(fill() && buffer[pos] == quote) {
+				field.append(quote);
+				pos++;
+			} else return readUnquotedRest();
+		}
+		return field.toString();
+	}
+
+	private String readUnquotedRest() throws IOException {
+		while(fill()) {
+			char c = buffer[pos];
+			if(c == delimiter || isLineBreak(c)) break;
+			field.append(c);
+			pos++;
+		}
+		return field.toString();
+	}
+
+	/**
+	 * @return 버퍼에 읽을 문자가 남아 있거나 새로 채운 경우 true 리턴, 데이터의 끝일 경우 false 리턴
+	 * @throws IOException 데이터를 읽지 못한 경우
+	 */
+	private boolean fill() throws IOException {
+		if(pos < limit) return true;
+		if(eof) return false;
+		int read;
+		do {
+			read = reader.read(buffer, 0, buffer.length);
+		} while(read == 0);
+		if(read < 0) {
+			eof = true;
+			return false;
+		}
+		pos = 0;
+		limit = read;
+		return true;
+	}
+
+	private static boolean isLineBreak(char c) {
+		return c == '\n' || c == '\r';
+	}
+}
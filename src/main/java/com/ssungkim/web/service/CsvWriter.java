@@ -0,0 +1,142 @@
+package com.ssungkim.web.service;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * 행을 RFC 4180 형식의 CSV, TSV 데이터로 바로 출력하는 라이터.
+ * 구분자, 큰따옴표, 줄바꿈이 포함된 필드만 큰따옴표로 감싸고, 행은 CRLF로 구분.
+ * 첫번째 행과 설정된 행 개수마다 출력 대상으로 flush하므로 응답으로 출력할 경우 전체 데이터를 만들기 전에 전송이 시작됨
+ * @since v1.1.0
+ * @see CsvTokenizer
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+	private static final int BUFFER_SIZE = 64*1024;
+
+	private final Writer writer;
+	private final char delimiter;
+	private final char quote;
+
+	private int flushInterval = 1000;
+	private long rowCount = 0;
+
+	/**
+	 * @since v1.1.0
+	 * @param writer 데이터를 출력할 {@link Writer}
+	 * @param delimiter 필드 구분자. ex) ',' 또는 '\t'
+	 */
+	public CsvWriter(Writer writer, char delimiter) {
+		this(writer, delimiter, '"');
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param writer 데이터를 출력할 {@link Writer}
+	 * @param delimiter 필드 구분자. ex) ',' 또는 '\t'
+	 * @param quote 필드를 감싸는 문자
+	 * @throws IllegalArgumentException delimiter와 quote가 같거나 줄바꿈 문자일 경우
+	 */
+	public CsvWriter(Writer writer, char delimiter, char quote) throws IllegalArgumentException {
+		if(delimiter == quote || isLineBreak(delimiter) || isLineBreak(quote)) throw new IllegalArgumentException("Invalid delimiter or quote. Delimiter : "+delimiter+" / Quote : "+quote);
+		this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer, BUFFER_SIZE);
+		this.delimiter = delimiter;
+		this.quote = quote;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param os 데이터를 출력할 {@link OutputStream}
+	 * @param delimiter 필드 구분자. ex) ',' 또는 '\t'
+	 * @param charset 출력할 문자 인코딩
+	 * @param bom BOM 출력 여부. Excel에서 UTF-8 파일을 열 경우 필요. BOM을 표현할 수 없는 인코딩일 경우 무시
+	 * @throws IOException BOM을 출력하지 못한 경우
+	 */
+	public CsvWriter(OutputStream os, char delimiter, Charset charset, boolean bom) throws IOException {
+		this(new OutputStreamWriter(os, charset), delimiter);
+		if(bom && charset.newEncoder().canEncode('\uFEFF')) writer.write('\uFEFF');
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param rows flush할 행 간격. 기본값 1000
+	 * @return 현재 {@link CsvWriter}
+	 * @throws IllegalArgumentException rows가 0 이하일 경우
+	 */
+	public CsvWriter setFlushInterval(int rows) throws IllegalArgumentException {
+		if(rows <= 0) throw new IllegalArgumentException("Flush interval must be positive. Interval : "+rows);
+		this.flushInterval = rows;
+		return this;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param row 출력할 행의 필드 목록. null인 필드는 빈 문자열로 출력
+	 * @throws IOException 데이터를 출력하지 못한 경우
+	 */
+	public void writeRow(List<String> row) throws IOException {
+		int size = row == null ? 0 : row.size();
+		for(int i=0; i<size; i++) {
+			if(i > 0) writer.write(delimiter);
+			writeField(row.get(i));
+		}
+		writer.write("\r\n");
+		rowCount++;
+		if(rowCount == 1 || rowCount%flushInterval == 0) writer.flush();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @return 출력된 행의 개수
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+
+	private void writeField(String value) throws IOException {
+		if(value == null || value.isEmpty()) return;
+		int length = value.length();
+		int i = 0;
+		while(i < length) {
+			char c = value.charAt(i);
+			if(c == delimiter || c == quote || isLineBreak(c)) break;
+			i++;
+		}
+		if(i == length) {
+			writer.write(value);
+			return;
+		}
+		writer.write(quote);
+		int start = 0;
+		for(; i<length; i++) {
+			if(value.charAt(i) == quote) {
+				writer.write(value, start, i+1-start);
+				writer.write(quote);
+				start = i+1;
+			}
+		}
+		writer.write(value, start, length-start);
+		writer.write(quote);
+	}
+
+	private static boolean isLineBreak(char c) {
+		return c == '\n' || c == '\r';
+	}
+}
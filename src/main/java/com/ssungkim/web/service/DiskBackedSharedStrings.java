@@ -0,0 +1,256 @@
+package com.ssungkim.web.service;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.XMLConstants;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * xlsx 파일의 공유 문자열을 힙 메모리 대신 임시 파일에 저장하고 메모리 매핑으로 읽어오는 {@link SharedStrings}.
+ * 문자열 개수와 관계없이 힙에는 최근에 사용한 문자열만 캐시되며, 사용 후에는 {@link #close()}로 임시 파일을 삭제해야 함
+ * @since v1.1.0
+ * @see ExcelSheetHandler#setSharedStringsSpillThreshold(long)
+ */
+public class DiskBackedSharedStrings implements SharedStrings, Closeable {
+
+	private static final Class<DiskBackedSharedStrings> thisClass = DiskBackedSharedStrings.class;
+
+	private static final int CACHE_SIZE = 1024;
+
+	private final Path dataFile;
+	private final Path indexFile;
+	private FileChannel dataChannel;
+	private FileChannel indexChannel;
+	private ByteBuffer dataBuffer;
+	private ByteBuffer indexBuffer;
+
+	private int count = 0;
+	private int uniqueCount = 0;
+
+	@SuppressWarnings("serial")
+	private final Map<Integer, String> cache = new LinkedHashMap<Integer, String>(CACHE_SIZE*2, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * @since v1.1.0
+	 * @param opc 공유 문자열을 읽어올 xlsx 파일의 {@link OPCPackage}
+	 * @throws Exception 공유 문자열을 읽거나 임시 파일에 저장하지 못한 경우
+	 */
+	public DiskBackedSharedStrings(OPCPackage opc) throws Exception {
+		this(sharedStringsPart(opc));
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param part 공유 문자열 파트. null일 경우 공유 문자열이 없는 것으로 처리
+	 * @throws Exception 공유 문자열을 읽거나 임시 파일에 저장하지 못한 경우
+	 */
+	public DiskBackedSharedStrings(PackagePart part) throws Exception {
+		dataFile = Files.createTempFile("common-web-sst-", ".dat");
+		indexFile = Files.createTempFile("common-web-sst-", ".idx");
+		try {
+			if(part != null) {
+				try(InputStream is = part.getInputStream()) {
+					spill(is);
+				}
+			}
+			dataChannel = FileChannel.open(dataFile, StandardOpenOption.READ);
+			indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ);
+			dataBuffer = map(dataChannel);
+			indexBuffer = map(indexChannel);
+		} catch(Exception e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param opc xlsx 파일의 {@link OPCPackage}
+	 * @return 공유 문자열 파트. 없을 경우 null 리턴
+	 */
+	static PackagePart sharedStringsPart(OPCPackage opc) throws Exception {
+		List<PackagePart> parts = opc.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+		return parts.isEmpty() ? null : parts.get(0);
+	}
+
+	@Override
+	public RichTextString getItemAt(int idx) {
+		return new XSSFRichTextString(getString(idx));
+	}
+
+	@Override
+	public int getCount() {
+		return count;
+	}
+
+	@Override
+	public int getUniqueCount() {
+		return uniqueCount;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param idx 공유 문자열 번호
+	 * @return idx에 해당하는 문자열
+	 * @throws IndexOutOfBoundsException 공유 문자열 번호가 범위를 벗어난 경우
+	 */
+	public String getString(int idx) throws IndexOutOfBoundsException {
+		if(idx < 0 || idx >= uniqueCount) throw new IndexOutOfBoundsException("Index : "+idx+" / Unique count : "+uniqueCount);
+		synchronized(cache) {
+			String s = cache.get(idx);
+			if(s != null) return s;
+		}
+		String s = readString(idx);
+		synchronized(cache) {
+			cache.put(idx, s);
+		}
+		return s;
+	}
+
+	@Override
+	public void close() {
+		try { if(dataChannel != null) dataChannel.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close FileChannel.", e); }
+		try { if(indexChannel != null) indexChannel.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close FileChannel.", e); }
+		dataBuffer = null;
+		indexBuffer = null;
+		try { Files.deleteIfExists(dataFile); } catch(Exception e) { dataFile.toFile().deleteOnExit(); }
+		try { Files.deleteIfExists(indexFile); } catch(Exception e) { indexFile.toFile().deleteOnExit(); }
+	}
+
+	private String readString(int idx) {
+		try {
+			long offset = indexBuffer != null ? indexBuffer.getLong(idx*8) : readFully(indexChannel, (long)idx*8, 8).getLong(0);
+			byte[] bytes;
+			if(dataBuffer != null) {
+				int length = dataBuffer.getInt((int)offset);
+				bytes = new byte[length];
+				dataBuffer.get((int)offset+4, bytes);
+			} else {
+				int length = readFully(dataChannel, offset, 4).getInt(0);
+				bytes = readFully(dataChannel, offset+4, length).array();
+			}
+			return new String(bytes, StandardCharsets.UTF_8);
+		} catch(IOException e) {
+			throw new IllegalStateException("Can not read shared string. Index : "+idx, e);
+		}
+	}
+
+	private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while(buffer.hasRemaining()) {
+			if(channel.read(buffer, position+buffer.position()) < 0) throw new IOException("Unexpected end of shared strings file.");
+		}
+		return buffer;
+	}
+
+	/**
+	 * @param channel 임시 파일 {@link FileChannel}
+	 * @return 파일 크기가 2GB 이하일 경우 메모리 매핑된 {@link ByteBuffer}, 초과할 경우 null 리턴
+	 */
+	private static ByteBuffer map(FileChannel channel) throws IOException {
+		long size = channel.size();
+		if(size > Integer.MAX_VALUE) return null;
+		return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+	}
+
+	/**
+	 * 공유 문자열 XML을 읽으면서 문자열은 [길이][UTF-8 데이터] 형식으로, 위치는 8byte 단위로 임시 파일에 저장
+	 */
+	private void spill(InputStream is) throws Exception {
+		PushbackInputStream pis = new PushbackInputStream(is, 1);
+		int first = pis.read();
+		if(first < 0) return;
+		pis.unread(first);
+		try(DataOutputStream data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(dataFile), 64*1024));
+			DataOutputStream index = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile), 64*1024))) {
+			SpillHandler handler = new SpillHandler(data, index);
+			XMLReader xmlReader = XMLHelper.newXMLReader();
+			xmlReader.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+			xmlReader.setContentHandler(handler);
+			xmlReader.parse(new InputSource(pis));
+			count = handler.count;
+			uniqueCount = handler.uniqueCount;
+		}
+	}
+
+	/**
+	 * 기본 설정의 {@link org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable}과 같은 방식으로 si 요소의 모든 t 텍스트를 순서대로 이어붙이며, 발음 기호(rPh) 텍스트는 공백 하나를 사이에 두고 포함
+	 */
+	private static class SpillHandler extends DefaultHandler {
+
+		private final DataOutputStream data;
+		private final DataOutputStream index;
+		private final StringBuilder characters = new StringBuilder(64);
+		private boolean tIsOpen = false;
+		private long offset = 0;
+		private int count = 0;
+		private int uniqueCount = 0;
+
+		private SpillHandler(DataOutputStream data, DataOutputStream index) {
+			this.data = data;
+			this.index = index;
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			if(uri != null && !uri.equals(XSSFRelation.NS_SPREADSHEETML)) return;
+			if("sst".equals(localName)) {
+				String value = attributes.getValue("count");
+				if(value != null) count = (int)Long.parseLong(value);
+			} else if("si".equals(localName)) characters.setLength(0);
+			else if("t".equals(localName)) tIsOpen = true;
+			else if("rPh".equals(localName) && characters.length() > 0) characters.append(' ');
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) throws org.xml.sax.SAXException {
+			if(uri != null && !uri.equals(XSSFRelation.NS_SPREADSHEETML)) return;
+			if("si".equals(localName)) {
+				try {
+					byte[] bytes = characters.toString().getBytes(StandardCharsets.UTF_8);
+					index.writeLong(offset);
+					data.writeInt(bytes.length);
+					data.write(bytes);
+					offset += 4+bytes.length;
+					uniqueCount++;
+				} catch(IOException e) {
+					throw new org.xml.sax.SAXException(e);
+				}
+			} else if("t".equals(localName)) tIsOpen = false;
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) {
+			if(tIsOpen) characters.append(ch, start, length);
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package com.ssungkim.web.service;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * 엑셀 셀 값을 문자열로 변환하는 포매터. 파싱 한 번에 하나의 객체를 만들어 사용하며, 하나의 {@link DataFormatter}를 재사용.
+ * 셀 서식 번호별 처리 방식은 워크북의 스타일 목록으로 한 번만 계산해 두고, 날짜 서식은 변경 불가능한 {@link DateTimeFormatter}를 공유.
+ * {@link DataFormatter}를 사용하므로 한 객체를 여러 스레드에서 동시에 사용할 수 없음
+ * @since v1.1.0
+ */
+public class ExcelCellFormatter {
+
+	private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+	private static final DateTimeFormatter KOREAN_DATE = DateTimeFormatter.ofPattern("yyyy년 M월 d일 EEEE", Locale.KOREAN);
+	private static final DateTimeFormatter KOREAN_TIME = DateTimeFormatter.ofPattern("a hh:mm:ss", Locale.KOREAN);
+
+	private static final byte DEFAULT = 0;
+	private static final byte DATE = 1;
+	private static final byte KOREAN_DATE_KIND = 2;
+	private static final byte KOREAN_TIME_KIND = 3;
+	private static final byte ZIP_CODE = 4;
+	private static final byte RESIDENT_NUMBER = 5;
+
+	private final DataFormatter dataFormatter = new DataFormatter();
+	private final byte[] styleKinds;
+
+	/**
+	 * 서식 번호로 처리 방식을 판단. 셀 스타일이 없는 이벤트 방식 파싱에서 사용
+	 * @since v1.1.0
+	 */
+	public ExcelCellFormatter() {
+		this.styleKinds = new byte[0];
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param wb 파싱할 {@link Workbook}. 모든 셀 스타일의 처리 방식을 미리 계산
+	 */
+	public ExcelCellFormatter(Workbook wb) {
+		int count = wb.getNumCellStyles();
+		this.styleKinds = new byte[count];
+		for(int i=0; i<count; i++) styleKinds[i] = kindOf(wb.getCellStyleAt(i).getDataFormat());
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param row 엑셀 행 번호. 첫번째 행은 제목 행으로 보고 서식 없이 텍스트로 변환
+	 * @param cell 엑셀 셀
+	 * @return 셀 서식에 맞게 변환된 trim 처리된 문자열. 셀이 없거나 비어 있을 경우 빈 문자열 리턴
+	 */
+	public String format(int row, Cell cell) {
+		if(cell == null || isEmpty(cell)) return "";
+		byte kind = row == 0 ? DEFAULT : kindOfStyle(cell);
+		String value;
+		switch(kind) {
+		case DATE:
+		case KOREAN_DATE_KIND:
+		case KOREAN_TIME_KIND:
+			value = isNumeric(cell) ? formatDate(kind, cell.getLocalDateTimeCellValue()) : dataFormatter.formatCellValue(cell);
+			break;
+		default:
+			value = formatText(kind, dataFormatter.formatCellValue(cell));
+		}
+		return value.trim();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param value 셀의 숫자 값
+	 * @param formatIndex 셀 서식 번호
+	 * @param formatString 셀 서식 문자열
+	 * @return 셀 서식에 맞게 변환된 trim 처리된 문자열
+	 */
+	public String formatNumber(double value, int formatIndex, String formatString) {
+		return formatNumber(value, formatIndex, formatString, false);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param value 셀의 숫자 값
+	 * @param formatIndex 셀 서식 번호
+	 * @param formatString 셀 서식 문자열. null일 경우 일반 서식 사용
+	 * @param use1904Windowing 워크북이 1904 날짜 체계를 사용하는지 여부
+	 * @return 셀 서식에 맞게 변환된 trim 처리된 문자열
+	 */
+	public String formatNumber(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+		return formatNumber(kindOf(formatIndex), value, formatIndex, formatString, use1904Windowing);
+	}
+
+	/**
+	 * 이벤트 방식 파싱에서 {@link #format(int, Cell)}과 같은 결과를 만들기 위해 사용
+	 * @since v1.1.0
+	 * @param row 엑셀 행 번호. 첫번째 행은 제목 행으로 보고 날짜 등의 별도 변환 없이 셀 서식을 적용한 {@link DataFormatter}의 결과를 사용
+	 * @param value 셀의 숫자 값
+	 * @param formatIndex 셀 서식 번호
+	 * @param formatString 셀 서식 문자열. null일 경우 일반 서식 사용
+	 * @param use1904Windowing 워크북이 1904 날짜 체계를 사용하는지 여부
+	 * @return 셀 서식에 맞게 변환된 trim 처리된 문자열
+	 */
+	public String formatNumber(int row, double value, int formatIndex, String formatString, boolean use1904Windowing) {
+		return formatNumber(row == 0 ? DEFAULT : kindOf(formatIndex), value, formatIndex, formatString, use1904Windowing);
+	}
+
+	private String formatNumber(byte kind, double value, int formatIndex, String formatString, boolean use1904Windowing) {
+		String s;
+		if(kind == DATE || kind == KOREAN_DATE_KIND || kind == KOREAN_TIME_KIND) s = formatDate(kind, DateUtil.getLocalDateTime(value, use1904Windowing));
+		else s = formatText(kind, dataFormatter.formatRawCellContents(value, formatIndex, formatString == null ? "General" : formatString, use1904Windowing));
+		return s.trim();
+	}
+
+	private byte kindOfStyle(Cell cell) {
+		int index = cell.getCellStyle().getIndex() & 0xFFFF;
+		return index < styleKinds.length ? styleKinds[index] : kindOf(cell.getCellStyle().getDataFormat());
+	}
+
+	/**
+	 * 0: 일반 [abcd1234], 2: 사용자 지정(0.00), 4: 통화 [123,456,789.00], 9: 백분율 [123%], 12: 분수 [1234 ], 42: 회계 [ ₩12,345 ], 49: 텍스트 [abcd1234],
+	 * 176: 숫자 [12345 ], 177: 통화 [₩44,511 ], 183: 지수 [1.E+01], 184: 사용자 지정 [0##-####-####], 186: 기타(전화번호_국번 4자리) [(01) 2345-6789],
+	 * 187: 기타(전화번호_국번 3자리) [(012) 345-6789], 191: 숫자 [123,456,789,00]는 {@link DataFormatter}의 결과를 그대로 사용
+	 * @param formatIndex 셀 서식 번호
+	 * @return 서식 번호에 해당하는 처리 방식
+	 */
+	private static byte kindOf(int formatIndex) {
+		switch(formatIndex) {
+		case 14: return DATE;					// 날짜 [yyyy-MM-dd]
+		case 181: return KOREAN_DATE_KIND;		// 날짜 [yyyy년 MM월 dd일 E요일]
+		case 182: return KOREAN_TIME_KIND;		// 시간 [오전 HH:mm:ss]
+		case 185: return ZIP_CODE;				// 기타(우편번호) [123-456]
+		case 188: return RESIDENT_NUMBER;		// 기타(주민등록번호) [000000-0000000]
+		default: return DEFAULT;
+		}
+	}
+
+	private static String formatDate(byte kind, LocalDateTime date) {
+		if(date == null) return "";
+		if(kind == KOREAN_DATE_KIND) return KOREAN_DATE.format(date);
+		if(kind == KOREAN_TIME_KIND) return KOREAN_TIME.format(date);
+		return ISO_DATE.format(date);
+	}
+
+	/**
+	 * @param kind 처리 방식
+	 * @param value {@link DataFormatter}로 변환된 값
+	 * @return 우편번호는 끝 3자리, 주민등록번호는 끝 7자리 앞에 '-'를 한 번만 넣은 값. 그 외에는 value 그대로 리턴
+	 */
+	private static String formatText(byte kind, String value) {
+		int split = kind == ZIP_CODE ? 3 : kind == RESIDENT_NUMBER ? 7 : 0;
+		int len = value.length();
+		if(split == 0 || len < split) return value;
+		return value.substring(0, len-split).replace("-", "")+"-"+value.substring(len-split);
+	}
+
+	private static boolean isEmpty(Cell cell) {
+		CellType type = cell.getCellType();
+		if(type == CellType.BLANK) return true;
+		return type == CellType.STRING && cell.getStringCellValue().isEmpty();
+	}
+
+	private static boolean isNumeric(Cell cell) {
+		CellType type = cell.getCellType();
+		return type == CellType.NUMERIC || (type == CellType.FORMULA && cell.getCachedFormulaResultType() == CellType.NUMERIC);
+	}
+}
@@ -1,13 +1,20 @@
 package com.ssungkim.web.service;
 
+import com.ssungkim.model.ReadOptions;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
 import org.apache.poi.ooxml.util.SAXHelper;
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.util.CellReference;
 import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.eventusermodel.XSSFReader.SheetIterator;
 import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.SharedStrings;
 import org.apache.poi.xssf.model.StylesTable;
 import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.xml.sax.ContentHandler;
@@ -15,20 +22,89 @@ import org.xml.sax.InputSource;
 import org.xml.sax.XMLReader;
 
 import javax.xml.XMLConstants;
+import java.io.Closeable;
 import java.io.File;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 
 public class ExcelSheetHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
 	
 	private static final Class<ExcelSheetHandler> thisClass = ExcelSheetHandler.class;
 
+	private static volatile long sharedStringsSpillThreshold = Long.MAX_VALUE;
+	private static volatile ExecutorService sheetExecutor = null;
+
 	private int headerCol = 0;
 	private int currentCol = 0;
 	
 	private List<List<String>> dataList = new ArrayList<List<String>>();
 	private List<String> rowData = new ArrayList<String>();
+	
+	private final Consumer<List<String>> rowConsumer;
+	
+	private final int startRow;
+	private final int maxRows;
+	private final int[] columnPositions;
+	private String[] projectedRow;
+	private int rowIndex = 0;
+	private int deliveredRows = 0;
+	private boolean skipRow = false;
+	
+	/**
+	 * @since v1.0.0
+	 */
+	public ExcelSheetHandler() {
+		this(null, ReadOptions.ALL);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param rowConsumer 한 행의 파싱이 끝날 때마다 해당 행 데이터를 전달받을 {@link Consumer}. 전달된 행은 핸들러에 저장되지 않음
+	 */
+	public ExcelSheetHandler(Consumer<List<String>> rowConsumer) {
+		this(rowConsumer, ReadOptions.ALL);
+	}
+	
+	/**
+	 * 범위 밖의 행과 지정하지 않은 열의 값은 행 데이터로 만들지 않으며, 범위의 마지막 행을 전달하면 시트의 나머지 부분은 읽지 않음
+	 * @since v1.1.0
+	 * @param rowConsumer 한 행의 파싱이 끝날 때마다 해당 행 데이터를 전달받을 {@link Consumer}. null일 경우 핸들러에 저장
+	 * @param options 읽어올 행 범위와 열을 지정한 {@link ReadOptions}
+	 */
+	public ExcelSheetHandler(Consumer<List<String>> rowConsumer, ReadOptions options) {
+		this.rowConsumer = rowConsumer == null ? dataList::add : rowConsumer;
+		this.startRow = options.getStartRow();
+		this.maxRows = options.getMaxRows();
+		this.columnPositions = options.columnPositions();
+		this.projectedRow = columnPositions == null ? null : new String[options.getColumns().length];
+	}
+	
+	/**
+	 * 공유 문자열 파트의 크기가 기준을 넘는 xlsx 파일은 {@link DiskBackedSharedStrings}를 사용해 공유 문자열을 임시 파일에 저장
+	 * @since v1.1.0
+	 * @param bytes 공유 문자열을 임시 파일에 저장할 공유 문자열 XML 크기 기준(byte). 기본값 {@link Long#MAX_VALUE}(사용 안 함)
+	 * @throws IllegalArgumentException bytes가 0보다 작을 경우
+	 */
+	public static void setSharedStringsSpillThreshold(long bytes) throws IllegalArgumentException {
+		if(bytes < 0) throw new IllegalArgumentException("Threshold can not be negative. Threshold : "+bytes);
+		sharedStringsSpillThreshold = bytes;
+	}
 		
 	/**
 	 * @since v1.0.0
@@ -37,35 +113,349 @@ public class ExcelSheetHandler implements XSSFSheetXMLHandler.SheetContentsHandl
 	 */
 	public static ExcelSheetHandler readExcel(File file) {
 		ExcelSheetHandler sheetHandler = new ExcelSheetHandler();
+		readSheet(file, sheetHandler);
+		return sheetHandler;
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return 파싱이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 * @throws CancellationException rowConsumer가 파싱을 중단한 경우
+	 */
+	public static boolean readExcel(File file, Consumer<List<String>> rowConsumer) throws CancellationException {
+		return readExcel(file, ReadOptions.ALL, rowConsumer);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param options 읽어올 행 범위와 열을 지정한 {@link ReadOptions}. 범위의 마지막 행을 읽으면 파싱을 멈춤
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return 파싱이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 * @throws CancellationException rowConsumer가 파싱을 중단한 경우
+	 */
+	public static boolean readExcel(File file, ReadOptions options, Consumer<List<String>> rowConsumer) throws CancellationException {
+		return readSheet(file, new ExcelSheetHandler(rowConsumer, options));
+	}
+	
+	/**
+	 * xlsx 파일을 디스크에 저장하지 않고 {@link InputStream}에서 바로 읽음. 압축된 파일 내용 전체를 메모리에 올리므로 큰 파일은 {@link #readExcel(File, Consumer)} 사용
+	 * @since v1.1.0
+	 * @param is xlsx 파일 {@link InputStream}. 파싱 후 닫지 않음
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return 파싱이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 * @throws CancellationException rowConsumer가 파싱을 중단한 경우
+	 */
+	public static boolean readExcel(InputStream is, Consumer<List<String>> rowConsumer) throws CancellationException {
+		return readExcel(is, ReadOptions.ALL, rowConsumer);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param is xlsx 파일 {@link InputStream}. 파싱 후 닫지 않음
+	 * @param options 읽어올 행 범위와 열을 지정한 {@link ReadOptions}. 범위의 마지막 행을 읽으면 파싱을 멈춤
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return 파싱이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 * @throws CancellationException rowConsumer가 파싱을 중단한 경우
+	 * @see #readExcel(InputStream, Consumer)
+	 */
+	public static boolean readExcel(InputStream is, ReadOptions options, Consumer<List<String>> rowConsumer) throws CancellationException {
+		OPCPackage opc = null;
+		try {
+			opc = OPCPackage.open(is);
+			return readSheet(opc, new ExcelSheetHandler(rowConsumer, options));
+		} catch (CancellationException e) {
+			throw e;
+		} catch (Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for read InputStream.", e);
+			return false;
+		} finally {
+			try { if(opc != null) opc.revert(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for revert OPCPackage.", e); }
+		}
+	}
+	
+	/**
+	 * xls 파일을 HSSF 이벤트 방식으로 읽어 첫번째 시트의 행을 xlsx와 같은 방식으로 전달. 워크북 전체를 메모리에 올리지 않음
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return 파싱이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 * @throws CancellationException rowConsumer가 파싱을 중단한 경우
+	 */
+	public static boolean readXls(File file, Consumer<List<String>> rowConsumer) throws CancellationException {
+		return readXls(file, ReadOptions.ALL, rowConsumer);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param options 읽어올 행 범위와 열을 지정한 {@link ReadOptions}. 범위의 마지막 행을 읽으면 파싱을 멈춤
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return 파싱이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 * @throws CancellationException rowConsumer가 파싱을 중단한 경우
+	 */
+	public static boolean readXls(File file, ReadOptions options, Consumer<List<String>> rowConsumer) throws CancellationException {
+		POIFSFileSystem fs = null;
+		try {
+			fs = new POIFSFileSystem(file, true);
+			return readXlsSheet(fs, new ExcelSheetHandler(rowConsumer, options));
+		} catch (CancellationException e) {
+			throw e;
+		} catch (Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for read xls file.", e);
+			return false;
+		} finally {
+			try { if(fs != null) fs.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close POIFSFileSystem.", e); }
+		}
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param is xls 파일 {@link InputStream}. 파싱 후 닫지 않음
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return 파싱이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 * @throws CancellationException rowConsumer가 파싱을 중단한 경우
+	 * @see #readXls(File, Consumer)
+	 */
+	public static boolean readXls(InputStream is, Consumer<List<String>> rowConsumer) throws CancellationException {
+		return readXls(is, ReadOptions.ALL, rowConsumer);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param is xls 파일 {@link InputStream}. 파싱 후 닫지 않음
+	 * @param options 읽어올 행 범위와 열을 지정한 {@link ReadOptions}. 범위의 마지막 행을 읽으면 파싱을 멈춤
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return 파싱이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 * @throws CancellationException rowConsumer가 파싱을 중단한 경우
+	 * @see #readXls(File, Consumer)
+	 */
+	public static boolean readXls(InputStream is, ReadOptions options, Consumer<List<String>> rowConsumer) throws CancellationException {
+		try(POIFSFileSystem fs = new POIFSFileSystem(CloseShieldInputStream.wrap(is))) {
+			return readXlsSheet(fs, new ExcelSheetHandler(rowConsumer, options));
+		} catch (CancellationException e) {
+			throw e;
+		} catch (Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for read xls InputStream.", e);
+			return false;
+		}
+	}
+	
+	private static boolean readXlsSheet(POIFSFileSystem fs, ExcelSheetHandler sheetHandler) throws Exception {
+		HSSFRequest request = new HSSFRequest();
+		request.addListenerForAllRecords(new XlsRecordListener(sheetHandler));
+		try {
+			new HSSFEventFactory().abortableProcessWorkbookEvents(request, fs);
+		} catch(StopReadingException e) {
+			LoggingService.debug(thisClass, "Stop reading xls. Row count : {}", sheetHandler.deliveredRows);
+		}
+		return true;
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param sheetHandler 첫번째 시트의 셀 데이터를 전달받을 핸들러
+	 * @return 파싱이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 */
+	private static boolean readSheet(File file, ExcelSheetHandler sheetHandler) {
 		OPCPackage opc = null;
-		InputStream is = null;
 		try {
 			opc = OPCPackage.open(file.getPath().toString(), PackageAccess.READ);
+			return readSheet(opc, sheetHandler);
+		} catch (CancellationException e) {
+			throw e;
+		} catch (Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for read file.", e);
+			return false;
+		} finally {
+			try { if(opc != null) opc.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close OPCPackage.", e); }
+		}
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param opc xlsx 파일의 {@link OPCPackage}. 파싱 후 닫지 않음
+	 * @param sheetHandler 첫번째 시트의 셀 데이터를 전달받을 핸들러
+	 * @return 파싱이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 */
+	private static boolean readSheet(OPCPackage opc, ExcelSheetHandler sheetHandler) {
+		InputStream is = null;
+		SharedStrings strings = null;
+		try {
 			XSSFReader reader = new XSSFReader(opc);
 			SheetIterator it = (SheetIterator)reader.getSheetsData();
 			StylesTable styles = reader.getStylesTable();
-			ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(opc);
+			strings = openSharedStrings(opc);
 
 			is = it.next();
-			InputSource source = new InputSource(is);
+			parseSheet(styles, strings, is, sheetHandler);
+			return true;
+		} catch (StopReadingException e) {
+			LoggingService.debug(thisClass, "Stop reading sheet. Row count : {}", sheetHandler.deliveredRows);
+			return true;
+		} catch (CancellationException e) {
+			throw e;
+		} catch (Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for read sheet.", e);
+			return false;
+		} finally {
+			try { if(is != null) is.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close InputStream.", e); }
+			closeSharedStrings(strings);
+		}
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @return 파일의 모든 시트를 병렬로 읽어 시트 이름을 key로 저장한 {@code Map<String, List<List<String>>>} 객체 리턴. 시트 순서는 파일의 시트 순서를 따름. 예외 발생 시 null 리턴
+	 */
+	public static Map<String, List<List<String>>> readExcelSheets(File file) {
+		return readSheets(file, (index, name) -> true);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param sheetNames 읽어올 시트 이름 목록
+	 * @return sheetNames에 해당하는 시트를 병렬로 읽어 시트 이름을 key로 저장한 {@code Map<String, List<List<String>>>} 객체 리턴. 없는 시트 이름은 무시. 예외 발생 시 null 리턴
+	 */
+	public static Map<String, List<List<String>>> readExcelSheets(File file, Collection<String> sheetNames) {
+		Set<String> names = new HashSet<String>(sheetNames);
+		return readSheets(file, (index, name) -> names.contains(name));
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param sheetIndexes 읽어올 시트 번호 목록(0부터 시작)
+	 * @return sheetIndexes에 해당하는 시트를 병렬로 읽어 시트 이름을 key로 저장한 {@code Map<String, List<List<String>>>} 객체 리턴. 없는 시트 번호는 무시. 예외 발생 시 null 리턴
+	 */
+	public static Map<String, List<List<String>>> readExcelSheetsAt(File file, int... sheetIndexes) {
+		Set<Integer> indexes = new HashSet<Integer>();
+		for(int index : sheetIndexes) indexes.add(index);
+		return readSheets(file, (index, name) -> indexes.contains(index));
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param filter 시트 번호와 시트 이름으로 읽어올 시트인지 판단하는 {@link BiPredicate}
+	 * @return 선택된 시트의 데이터를 시트 이름을 key로 저장한 {@code Map<String, List<List<String>>>} 객체 리턴. 예외 발생 시 null 리턴
+	 * @see #getSheetExecutor()
+	 */
+	private static Map<String, List<List<String>>> readSheets(File file, BiPredicate<Integer, String> filter) {
+		OPCPackage opc = null;
+		SharedStrings sharedStrings = null;
+		Map<String, Future<List<List<String>>>> futures = new LinkedHashMap<String, Future<List<List<String>>>>();
+		boolean success = false;
+		try {
+			opc = OPCPackage.open(file.getPath().toString(), PackageAccess.READ);
+			XSSFReader reader = new XSSFReader(opc);
+			SheetIterator it = (SheetIterator)reader.getSheetsData();
+			StylesTable styles = reader.getStylesTable();
+			sharedStrings = openSharedStrings(opc);
+			SharedStrings strings = sharedStrings;
 
-			ContentHandler handler = new XSSFSheetXMLHandler(styles, strings, sheetHandler, false);
-			XMLReader xmlReader = SAXHelper.newXMLReader();
-			xmlReader.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-			xmlReader.setContentHandler(handler);
-			xmlReader.parse(source);
+			Map<String, PackagePart> sheetParts = new LinkedHashMap<String, PackagePart>();
+			for(int index=0; it.hasNext(); index++) {
+				it.next().close();
+				if(filter.test(index, it.getSheetName())) sheetParts.put(it.getSheetName(), it.getSheetPart());
+			}
+			if(sheetParts.isEmpty()) return new LinkedHashMap<String, List<List<String>>>();
+
+			ExecutorService executor = getSheetExecutor();
+			for(Map.Entry<String, PackagePart> entry : sheetParts.entrySet()) {
+				PackagePart part = entry.getValue();
+				futures.put(entry.getKey(), executor.submit(() -> {
+					ExcelSheetHandler sheetHandler = new ExcelSheetHandler();
+					try(InputStream is = part.getInputStream()) {
+						parseSheet(styles, strings, is, sheetHandler);
+					}
+					return sheetHandler.getDataList();
+				}));
+			}
+
+			Map<String, List<List<String>>> sheetData = new LinkedHashMap<String, List<List<String>>>();
+			for(Map.Entry<String, Future<List<List<String>>>> entry : futures.entrySet()) sheetData.put(entry.getKey(), entry.getValue().get());
+			success = true;
+			return sheetData;
 		} catch (Exception e) {
-			LoggingService.error(thisClass, e.getClass()+" for read file.", e);
+			LoggingService.error(thisClass, e.getClass()+" for read sheets from file.", e);
+			return null;
 		} finally {
+			if(!success) {
+				for(Future<List<List<String>>> future : futures.values()) future.cancel(true);
+			}
+			closeSharedStrings(sharedStrings);
 			try { if(opc != null) opc.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close OPCPackage.", e); }
-			try { if(is != null) is.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close InputStream.", e); }
 		}
-		return sheetHandler;
-    }
+	}
+	
+	/**
+	 * 여러 파일을 동시에 읽더라도 시트를 읽는 스레드는 CPU 개수로 제한되도록 모든 호출이 같은 스레드 풀을 사용
+	 * @since v1.1.0
+	 * @return 시트를 병렬로 읽을 데몬 스레드 풀. 처음 호출할 때 생성
+	 */
+	private static ExecutorService getSheetExecutor() {
+		ExecutorService executor = sheetExecutor;
+		if(executor != null) return executor;
+		synchronized(thisClass) {
+			if(sheetExecutor == null) {
+				int threads = Runtime.getRuntime().availableProcessors();
+				AtomicInteger threadNumber = new AtomicInteger();
+				ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), r -> {
+					Thread t = new Thread(r, "excel-sheet-"+threadNumber.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				});
+				pool.allowCoreThreadTimeOut(true);
+				sheetExecutor = pool;
+			}
+			return sheetExecutor;
+		}
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param opc xlsx 파일의 {@link OPCPackage}
+	 * @return 공유 문자열 XML 크기가 기준 이하일 경우 {@link ReadOnlySharedStringsTable}, 초과할 경우 {@link DiskBackedSharedStrings} 리턴. 두 경우 모두 발음 기호(rPh) 텍스트를 포함
+	 * @throws Exception 공유 문자열을 읽지 못한 경우
+	 */
+	private static SharedStrings openSharedStrings(OPCPackage opc) throws Exception {
+		PackagePart part = DiskBackedSharedStrings.sharedStringsPart(opc);
+		if(part != null && part.getSize() > sharedStringsSpillThreshold) {
+			LoggingService.debug(thisClass, "Spill shared strings to disk. Size : {}", part.getSize());
+			return new DiskBackedSharedStrings(part);
+		}
+		return new ReadOnlySharedStringsTable(opc, true);
+	}
+
+	private static void closeSharedStrings(SharedStrings strings) {
+		try { if(strings instanceof Closeable) ((Closeable)strings).close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close SharedStrings.", e); }
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param styles 파일의 {@link StylesTable}
+	 * @param strings 파일의 공유 문자열 테이블
+	 * @param is 시트 XML {@link InputStream}
+	 * @param sheetHandler 시트의 셀 데이터를 전달받을 핸들러
+	 * @throws Exception 시트 XML 파싱 중 예외가 발생한 경우
+	 */
+	private static void parseSheet(StylesTable styles, SharedStrings strings, InputStream is, ExcelSheetHandler sheetHandler) throws Exception {
+		ContentHandler handler = new XSSFSheetXMLHandler(styles, strings, sheetHandler, false);
+		XMLReader xmlReader = SAXHelper.newXMLReader();
+		xmlReader.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+		xmlReader.setContentHandler(handler);
+		xmlReader.parse(new InputSource(is));
+	}
 	
 	/**
 	 * @since v1.0.0
-	 * @return 파일에 있는 모든 셀 데이터가 저장된 {@code List<List<String>>} 객체 리턴
+	 * @return 파일에 있는 모든 셀 데이터가 저장된 {@code List<List<String>>} 객체 리턴. {@link Consumer}로 생성된 핸들러일 경우 빈 리스트 리턴
 	 */
 	public List<List<String>> getDataList(){
 		return dataList;
@@ -74,20 +464,37 @@ public class ExcelSheetHandler implements XSSFSheetXMLHandler.SheetContentsHandl
 	@Override
 	public void startRow(int rowNum) {
 		currentCol = 0;
-		rowData = new ArrayList<String>();
+		skipRow = rowIndex < startRow;
+		if(skipRow) return;
+		if(projectedRow != null) Arrays.fill(projectedRow, "");
+		else rowData = new ArrayList<String>();
 	}
 
 	@Override
 	public void endRow(int rowNum) {
-		for(int i=0; i<headerCol-currentCol; i++) rowData.add("");
-		if(headerCol == 0) headerCol = currentCol == rowData.size() ? currentCol : currentCol-1;
-		dataList.add(rowData);
+		rowIndex++;
+		if(skipRow) {
+			if(headerCol == 0) headerCol = currentCol;
+			return;
+		}
+		if(projectedRow != null) rowConsumer.accept(new ArrayList<String>(Arrays.asList(projectedRow)));
+		else {
+			for(int i=0; i<headerCol-currentCol; i++) rowData.add("");
+			if(headerCol == 0) headerCol = currentCol == rowData.size() ? currentCol : currentCol-1;
+			rowConsumer.accept(rowData);
+		}
+		if(++deliveredRows >= maxRows) throw StopReadingException.INSTANCE;
 	}
 
 	@Override
 	public void cell(String cellReference, String formattedValue, XSSFComment comment) {
 		CellReference cell = new CellReference(cellReference);
 		int iCol = cell.getCol();
+		if(skipRow || projectedRow != null) {
+			if(!skipRow && iCol < columnPositions.length && columnPositions[iCol] >= 0) projectedRow[columnPositions[iCol]] = formattedValue;
+			currentCol = iCol+1;
+			return;
+		}
 		int emptyCol = iCol - currentCol;
 		
 		if(emptyCol > 0) {
@@ -98,4 +505,17 @@ public class ExcelSheetHandler implements XSSFSheetXMLHandler.SheetContentsHandl
 		currentCol++;
 		rowData.add(formattedValue);
 	}
+	
+	/**
+	 * {@link ReadOptions}의 범위를 모두 읽었을 때 시트 파싱을 멈추기 위한 예외. 스택 정보를 만들지 않음
+	 */
+	@SuppressWarnings("serial")
+	private static class StopReadingException extends RuntimeException {
+		
+		private static final StopReadingException INSTANCE = new StopReadingException();
+		
+		private StopReadingException() {
+			super(null, null, false, false);
+		}
+	}
 }
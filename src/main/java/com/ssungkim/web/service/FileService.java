@@ -1,208 +1,418 @@
 package com.ssungkim.web.service;
 
+import com.ssungkim.model.ReadOptions;
+import com.ssungkim.model.Table;
+import com.ssungkim.web.metrics.Metrics;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.poi.hssf.usermodel.HSSFDataFormat;
+import org.apache.commons.io.input.CountingInputStream;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.mozilla.universalchardet.UniversalDetector;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
-import java.text.SimpleDateFormat;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class FileService {
 	
 	private static final Class<FileService> thisClass = FileService.class;
 
+	private static final int PARSING_QUEUE_CAPACITY = 64;
+	private static volatile Executor parsingExecutor = null;
+
 	/**
 	 * @since v1.0.0
 	 * @param file 저장 파일
 	 * @param extension 저장 파일 확장자
-	 * @return 파일에 있는 모든 데이터가 저장된 {@code List<List<String>>} 객체 리턴
+	 * @return 파일에 있는 모든 데이터가 저장된 {@code List<List<String>>} 객체 리턴. 예외 발생 시 null 리턴
 	 */
-	@SuppressWarnings("YodaCondition")
 	public static List<List<String>> parsingFromFile(File file, String extension) {
-		String fileName = file.getName();
-		long time = System.currentTimeMillis();
-		LoggingService.info(thisClass, "Start read to file. File name : "+fileName+"."+extension);
 		List<List<String>> returnList = new ArrayList<List<String>>();
-		List<String> valueList = new ArrayList<String>();
-		Workbook wb = null;
-		InputStreamReader isr = null;
+		return parsingFromFile(file, extension, returnList::add) < 0 ? null : returnList;
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param extension 저장 파일 확장자
+	 * @return 파일에 있는 모든 데이터를 열 단위로 압축해 저장한 {@link Table} 객체 리턴. 예외 발생 시 null 리턴
+	 * @see Table#toList()
+	 */
+	public static Table parsingToTable(File file, String extension) {
+		Table.Builder builder = Table.builder();
+		return parsingFromFile(file, extension, builder) < 0 ? null : builder.build();
+	}
+	
+	/**
+	 * 미리보기, 제목 행 검사 등 일부 행만 필요한 경우 사용하며, 범위의 마지막 행을 읽으면 나머지 데이터는 읽지 않음
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param extension 저장 파일 확장자
+	 * @param options 읽어올 행 범위와 열을 지정한 {@link ReadOptions}
+	 * @return options에 해당하는 데이터가 저장된 {@code List<List<String>>} 객체 리턴. 예외 발생 시 null 리턴
+	 */
+	public static List<List<String>> parsingFromFile(File file, String extension, ReadOptions options) {
+		List<List<String>> returnList = new ArrayList<List<String>>();
+		return parsingFromFile(file, extension, options, returnList::add) < 0 ? null : returnList;
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param extension 저장 파일 확장자
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. 전달된 행은 별도로 저장되지 않음
+	 * @return rowConsumer에 전달된 행의 개수. 예외 발생 시 -1 리턴
+	 */
+	public static int parsingFromFile(File file, String extension, Consumer<List<String>> rowConsumer) {
+		return parsingFromFile(file, extension, ReadOptions.ALL, rowConsumer);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param extension 저장 파일 확장자
+	 * @param options 읽어올 행 범위와 열을 지정한 {@link ReadOptions}. 범위의 마지막 행을 읽으면 파싱을 멈춤
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. 전달된 행은 별도로 저장되지 않음
+	 * @return rowConsumer에 전달된 행의 개수. 예외 발생 시 -1 리턴
+	 */
+	@SuppressWarnings("YodaCondition")
+	public static int parsingFromFile(File file, String extension, ReadOptions options, Consumer<List<String>> rowConsumer) {
+		String fileName = file.getName();
+		long time = System.nanoTime();
+		LoggingService.info(thisClass, "Start read to file. File name : {}.{} / {}", fileName, extension, options);
+		int[] rowCount = new int[1];
+		Consumer<List<String>> countingConsumer = row -> {
+			rowCount[0]++;
+			rowConsumer.accept(row);
+		};
+		boolean success = false;
 		FileInputStream fis = null;
-		BufferedReader br = null;
 		try {
 			if("xls".equalsIgnoreCase(extension)) {
-				wb = WorkbookFactory.create(file);
-				Sheet sheet = wb.getSheetAt(0);
-				int totalRow = sheet.getLastRowNum()+1;
-				if(totalRow == 0) return new ArrayList<List<String>>();
-				int cellCnt = sheet.getRow(0).getLastCellNum();
-				for(int i=0; i<totalRow; i++) {
-					valueList = new ArrayList<String>();
-					Row row = sheet.getRow(i);
-					for(int j=0; j<cellCnt; j++) {
-						if(row == null) valueList.add("");
-						else valueList.add(getCellData(i, row.getCell(j)));
-					}
-					returnList.add(valueList);
-				}
+				if(!ExcelSheetHandler.readXls(file, options, countingConsumer)) return -1;
 			} else if("xlsx".equalsIgnoreCase(extension)) {
-				ExcelSheetHandler excelSheetHandler = ExcelSheetHandler.readExcel(file);
-				returnList = excelSheetHandler.getDataList();
+				if(!ExcelSheetHandler.readExcel(file, options, countingConsumer)) return -1;
 			} else if("csv".equalsIgnoreCase(extension) || "txt".equalsIgnoreCase(extension)) {
-				String encType = getFileEncType(file);
 				fis = new FileInputStream(file);
-				if(encType == null) isr = new InputStreamReader(fis, "euc-kr");
-				else isr = new InputStreamReader(fis, encType);
-				br = new BufferedReader(isr);
-				String line = "";
-				List<String> rowList = new ArrayList<String>();
-				while((line = br.readLine()) != null) rowList.add(line);
-				int rowSize = rowList.size();
-				int varCnt = 0;
-				for(int index=0; index<rowSize; index++) {
-					String s = rowList.get(index);
-					String[] token = null;
-					if("csv".equals(extension)) token = s.split(",");
-					else token = s.split("\t");
-					int tokenLen = token.length;
-					if(varCnt == 0) varCnt = tokenLen;
-					valueList = new ArrayList<String>();
-					for(int i=0; i<tokenLen; i++) valueList.add(token[i]);
-					if(varCnt != tokenLen) {
-						for(int i=0; i<varCnt-tokenLen; i++) valueList.add("");
-					}
-					returnList.add(valueList);
-				}
+				Charset charset = parsingFromText(fis, "csv".equalsIgnoreCase(extension) ? ',' : '\t', options, countingConsumer);
+				LoggingService.debug(thisClass, "Detected charset : {} / File name : {}", charset, fileName);
 			}
-			LoggingService.info(thisClass, "Success read to file. File name : "+fileName+"."+extension+" / Time : "+(System.currentTimeMillis()-time)/1000.0+"s");
-			return returnList;
+			LoggingService.info(thisClass, () -> "Success read to file. File name : "+fileName+"."+extension+" / Time : "+TimeUnit.NANOSECONDS.toMillis(System.nanoTime()-time)/1000.0+"s");
+			success = true;
+			return rowCount[0];
+		} catch(CancellationException e) {
+			LoggingService.info(thisClass, "Cancel read to file. File name : {}.{}", fileName, extension);
+			return -1;
 		} catch(Exception e) {
 			LoggingService.error(thisClass, e.getClass()+" for parsing data from file ... file : " + fileName, e);
-			return null;
+			return -1;
 		} finally {
-			try { if(wb != null) wb.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" to close WorkBook.", e); }
-			try { if(isr != null) isr.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" to close InputStreamReader.", e); }
 			try { if(fis != null) fis.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" to close FileInputStream.", e); }
-			try { if(br != null) br.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" to close BufferedReader.", e); }
+			Metrics.recorder().recordParse(extension == null ? "unknown" : extension.toLowerCase(), rowCount[0], file.length(), System.nanoTime()-time, success);
 		}
 	}
 	
 	/**
-	 * @since v1.0.0
-	 * @param row 엑셀 행 번호
-	 * @param cell 엑셀 열 번호
-	 * @return row와 cell에 해당하는 cell에서 읽어온 문자열 리턴
+	 * @since v1.1.0
+	 * @param file 업로드된 파일
+	 * @return 파일에 있는 모든 데이터가 저장된 {@code List<List<String>>} 객체 리턴. 예외 발생 시 null 리턴
+	 * @see #parsingFromStream(InputStream, String, Consumer)
+	 */
+	public static List<List<String>> parsingFromMultipartFile(MultipartFile file) {
+		List<List<String>> returnList = new ArrayList<List<String>>();
+		return parsingFromMultipartFile(file, returnList::add) < 0 ? null : returnList;
+	}
+	
+	/**
+	 * 업로드된 파일을 디스크에 저장하지 않고 바로 파싱
+	 * @since v1.1.0
+	 * @param file 업로드된 파일. 파일 형식은 내용으로 판단하며, 확장자는 텍스트 파일의 구분자를 정할 때만 사용
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. 전달된 행은 별도로 저장되지 않음
+	 * @return rowConsumer에 전달된 행의 개수. 예외 발생 시 -1 리턴
+	 * @see #parsingFromStream(InputStream, String, Consumer)
+	 */
+	public static int parsingFromMultipartFile(MultipartFile file, Consumer<List<String>> rowConsumer) {
+		return parsingFromMultipartFile(file, ReadOptions.ALL, rowConsumer);
+	}
+	
+	/**
+	 * 업로드된 파일의 미리보기, 제목 행 검사에 사용. csv, txt 파일은 범위의 마지막 행까지만 읽음
+	 * @since v1.1.0
+	 * @param file 업로드된 파일
+	 * @param options 읽어올 행 범위와 열을 지정한 {@link ReadOptions}
+	 * @return options에 해당하는 데이터가 저장된 {@code List<List<String>>} 객체 리턴. 예외 발생 시 null 리턴
+	 * @see #parsingFromStream(InputStream, String, ReadOptions, Consumer)
+	 */
+	public static List<List<String>> parsingFromMultipartFile(MultipartFile file, ReadOptions options) {
+		List<List<String>> returnList = new ArrayList<List<String>>();
+		return parsingFromMultipartFile(file, options, returnList::add) < 0 ? null : returnList;
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 업로드된 파일. 파일 형식은 내용으로 판단하며, 확장자는 텍스트 파일의 구분자를 정할 때만 사용
+	 * @param options 읽어올 행 범위와 열을 지정한 {@link ReadOptions}
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. 전달된 행은 별도로 저장되지 않음
+	 * @return rowConsumer에 전달된 행의 개수. 예외 발생 시 -1 리턴
+	 * @see #parsingFromStream(InputStream, String, ReadOptions, Consumer)
+	 */
+	public static int parsingFromMultipartFile(MultipartFile file, ReadOptions options, Consumer<List<String>> rowConsumer) {
+		try(InputStream is = file.getInputStream()) {
+			return parsingFromStream(is, FilenameUtils.getExtension(file.getOriginalFilename()), options, rowConsumer);
+		} catch(IOException e) {
+			LoggingService.error(thisClass, e.getClass()+" for parsing data from MultipartFile ... file : "+file.getOriginalFilename(), e);
+			return -1;
+		}
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param is 파일 데이터 {@link InputStream}. 파싱 후 닫지 않음
+	 * @param extension 파일 확장자. 텍스트 파일의 구분자를 정할 때만 사용
+	 * @return 파일에 있는 모든 데이터가 저장된 {@code List<List<String>>} 객체 리턴. 예외 발생 시 null 리턴
+	 * @see #parsingFromStream(InputStream, String, Consumer)
+	 */
+	public static List<List<String>> parsingFromStream(InputStream is, String extension) {
+		List<List<String>> returnList = new ArrayList<List<String>>();
+		return parsingFromStream(is, extension, returnList::add) < 0 ? null : returnList;
+	}
+	
+	/**
+	 * 확장자 대신 파일 앞부분의 시그니처로 형식을 판단해 파싱. OLE2 형식은 xls, OOXML 형식은 xlsx, 그 외에는 텍스트 파일로 처리
+	 * @since v1.1.0
+	 * @param is 파일 데이터 {@link InputStream}. 파싱 후 닫지 않음
+	 * @param extension 파일 확장자. 텍스트 파일일 경우 txt, tsv는 탭, 그 외에는 쉼표를 구분자로 사용
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. 전달된 행은 별도로 저장되지 않음
+	 * @return rowConsumer에 전달된 행의 개수. 예외 발생 시 -1 리턴
+	 */
+	public static int parsingFromStream(InputStream is, String extension, Consumer<List<String>> rowConsumer) {
+		return parsingFromStream(is, extension, ReadOptions.ALL, rowConsumer);
+	}
+	
+	/**
+	 * xls, xlsx 형식은 파일 전체를 메모리에 올린 후 범위의 마지막 행까지 파싱하고, 텍스트 파일은 범위의 마지막 행까지만 스트림을 읽음
+	 * @since v1.1.0
+	 * @param is 파일 데이터 {@link InputStream}. 파싱 후 닫지 않음
+	 * @param extension 파일 확장자. 텍스트 파일일 경우 txt, tsv는 탭, 그 외에는 쉼표를 구분자로 사용
+	 * @param options 읽어올 행 범위와 열을 지정한 {@link ReadOptions}
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. 전달된 행은 별도로 저장되지 않음
+	 * @return rowConsumer에 전달된 행의 개수. 예외 발생 시 -1 리턴
+	 * @see #parsingFromStream(InputStream, String, Consumer)
 	 */
 	@SuppressWarnings("YodaCondition")
-	private static String getCellData(int row, Cell cell) {
-		if(cell == null) return "";
-		String imsi = "";
-		if(!"".equals(cell.toString())) {
-			DataFormatter df = new DataFormatter();
-			int cellFormat = cell.getCellStyle().getDataFormat();
-			if(row == 0) cellFormat = 49;
-			switch (cellFormat) {
-			case 0: // 일반 [abcd1234]
-			case 2: // 사용자 지정(0.00) -> total.00
-			case 4: // 통화 [123,456,789.00]
-			case 9: // 백분율 [123%]
-			case 12: // 분수 [1234 ]
-			case 14: // 날짜 [yyyy-MM-dd]
-			case 42: // 회계 [ ₩12,345 ]
-			case 49: // 텍스트 [abcd1234]
-			case 176: // 숫자 [12345 ]
-			case 177: // 통화 [₩44,511 ]
-			case 184: // 사용자 지정 [0##-####-####] -> ["total-2#"-n#-n#]
-			case 186: // 기타(전화번호_국번 4자리) [(01) 2345-6789] -> [("total-8") 4-4]
-			case 187: // 기타(전화번호_국번 3자리) [(012) 345-6789] -> [("total-7") 3-4]
-			case 191: // 숫자 [123,456,789,00]
-				if(HSSFDataFormat.getBuiltinFormats().equals(cellFormat)) {
-					String dateFmt = "";
-					if(cellFormat == 14) dateFmt = "yyyy-MM-dd";
-					else if(cellFormat == 21) dateFmt = "HH:mm:ss";
-					else if(cellFormat == 165) dateFmt = "m/d/yy";
-					else if(cellFormat == 166) dateFmt = "d-mmm-yy";
-					else if(cellFormat == 167) dateFmt = "mmmm d yyyy ";
-					else if(cellFormat == 168) dateFmt = "m/d/yyyy";
-					else if(cellFormat == 169) dateFmt = "d-mmm-yyyy";
-					imsi = new SimpleDateFormat(dateFmt).format(cell.getDateCellValue());
-				} else imsi = df.formatCellValue(cell);
-				break;
-			case 181: // 날짜 [yyyy년 MM월 dd일 E요일]
-				imsi = new SimpleDateFormat("yyyy년 M월 d일 E").format(cell.getDateCellValue());
-				String s = imsi.substring(0, imsi.indexOf("일")+2);
-				String t = imsi.substring(imsi.indexOf("일")+2);
-				String rpl = "";
-				if("MON".equalsIgnoreCase(t)) rpl = "월요일";
-				else if("TUE".equalsIgnoreCase(t)) rpl = "화요일";
-				else if("WED".equalsIgnoreCase(t)) rpl = "수요일";
-				else if("THU".equalsIgnoreCase(t)) rpl = "목요일";
-				else if("FRI".equalsIgnoreCase(t)) rpl = "금요일";
-				else if("SAT".equalsIgnoreCase(t)) rpl = "토요일";
-				else if("SUN".equalsIgnoreCase(t)) rpl = "일요일";
-				else if(t.indexOf("요일") >= 0) rpl = t;
-				else rpl = t + "요일";
-				imsi = s + rpl;
-				break;
-			case 182: // 시간 [오전 HH:mm:ss]
-				imsi = new SimpleDateFormat("a hh:mm:ss").format(cell.getDateCellValue());
-				if(imsi.startsWith("AM")) imsi = imsi.replace("AM", "오전");
-				else if(imsi.startsWith("PM")) imsi = imsi.replace("PM", "오후");
-				break;
-			case 183: // 지수 [1.E+01]
-				imsi = df.formatCellValue(cell);
-				imsi = imsi.substring(0, imsi.indexOf("E")+1)+imsi.substring(imsi.indexOf("E")+1);
-				break;
-			case 185: // 기타(우편번호) [123-456] -> ["total-3"-3]
-				imsi = df.formatCellValue(cell);
-				int len = imsi.length();
-				imsi = imsi.substring(0, len - 3).replace("-", "")+"-"+imsi.substring(len-3);
-				break;
-			case 188: // 기타(주민등록번호) [000000-0000000] -> ["total-7"-7]
-				imsi = df.formatCellValue(cell);
-				int len2 = imsi.length();
-				imsi = imsi.substring(0, len2-7).replace("-", "")+"-"+imsi.substring(len2-7);
-				break;
-//			case 189:		// 기타(숫자-한자) [一千二百三十四]
-//				break;
-//			case 190:		// 기타(숫자-한글) [일천이백삼십사]
-//				break;
-			default:
-				imsi = df.formatCellValue(cell);
+	public static int parsingFromStream(InputStream is, String extension, ReadOptions options, Consumer<List<String>> rowConsumer) {
+		long time = System.nanoTime();
+		int[] rowCount = new int[1];
+		Consumer<List<String>> countingConsumer = row -> {
+			rowCount[0]++;
+			rowConsumer.accept(row);
+		};
+		CountingInputStream cis = new CountingInputStream(is);
+		String format = "unknown";
+		boolean success = false;
+		try {
+			InputStream in = FileMagic.prepareToCheckMagic(cis);
+			FileMagic fileMagic = FileMagic.valueOf(in);
+			LoggingService.info(thisClass, "Start read to stream. Format : {}", fileMagic);
+			if(fileMagic == FileMagic.OLE2) {
+				format = "xls";
+				if(!ExcelSheetHandler.readXls(in, options, countingConsumer)) return -1;
+			} else if(fileMagic == FileMagic.OOXML) {
+				format = "xlsx";
+				if(!ExcelSheetHandler.readExcel(in, options, countingConsumer)) return -1;
+			} else {
+				char delimiter = "txt".equalsIgnoreCase(extension) || "tsv".equalsIgnoreCase(extension) ? '\t' : ',';
+				format = delimiter == '\t' ? "txt" : "csv";
+				Charset charset = parsingFromText(in, delimiter, options, countingConsumer);
+				LoggingService.debug(thisClass, "Detected charset : {}", charset);
 			}
+			LoggingService.info(thisClass, () -> "Success read to stream. Row count : "+rowCount[0]+" / Time : "+TimeUnit.NANOSECONDS.toMillis(System.nanoTime()-time)/1000.0+"s");
+			success = true;
+			return rowCount[0];
+		} catch(CancellationException e) {
+			LoggingService.info(thisClass, "Cancel read to stream.");
+			return -1;
+		} catch(Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for parsing data from stream.", e);
+			return -1;
+		} finally {
+			Metrics.recorder().recordParse(format, rowCount[0], cis.getByteCount(), System.nanoTime()-time, success);
 		}
-		return imsi.trim();
 	}
 	
 	/**
-	 * @since v1.0.0
+	 * @since v1.1.0
 	 * @param file 저장 파일
-	 * @return 파일 인코딩 문자열 리턴
+	 * @param extension 저장 파일 확장자
+	 * @return 파일에 있는 모든 데이터가 저장된 {@code List<List<String>>} 객체로 완료되는 {@link CompletableFuture}
+	 * @see #parsingFromFileAsync(File, String, Consumer)
 	 */
-	private static String getFileEncType(File file) {
-		byte[] buf = new byte[4096];
-		FileInputStream fis = null;
-		String encoding = null;
+	public static CompletableFuture<List<List<String>>> parsingFromFileAsync(File file, String extension) {
+		List<List<String>> returnList = new ArrayList<List<String>>();
+		return parsingFromFileAsync(file, extension, returnList::add).thenApply(rowCount -> returnList);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param extension 저장 파일 확장자
+	 * @return 파일에 있는 모든 데이터를 열 단위로 압축해 저장한 {@link Table} 객체로 완료되는 {@link CompletableFuture}
+	 * @see #parsingFromFileAsync(File, String, Consumer)
+	 */
+	public static CompletableFuture<Table> parsingToTableAsync(File file, String extension) {
+		Table.Builder builder = Table.builder();
+		return parsingFromFileAsync(file, extension, builder).thenApply(rowCount -> builder.build());
+	}
+	
+	/**
+	 * 파싱 전용 {@link Executor}에서 파일을 읽으므로 요청 스레드를 점유하지 않음.
+	 * 리턴된 {@link CompletableFuture}를 취소하거나 다른 값으로 완료하면 다음 행을 읽기 전에 파싱을 중단.
+	 * 대기 중인 작업이 가득 찬 경우 파싱을 시작하지 않고 {@link RejectedExecutionException}으로 완료
+	 * @since v1.1.0
+	 * @param file 저장 파일
+	 * @param extension 저장 파일 확장자
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. 파싱 스레드에서 호출됨
+	 * @return rowConsumer에 전달된 행의 개수로 완료되는 {@link CompletableFuture}. 파일을 읽지 못한 경우 {@link IOException}으로 완료
+	 * @see #setParsingExecutor(Executor)
+	 */
+	public static CompletableFuture<Integer> parsingFromFileAsync(File file, String extension, Consumer<List<String>> rowConsumer) {
+		CompletableFuture<Integer> future = new CompletableFuture<Integer>();
+		Consumer<List<String>> cancellableConsumer = row -> {
+			if(future.isDone() || Thread.currentThread().isInterrupted()) throw new CancellationException("Parsing is cancelled. File name : "+file.getName());
+			rowConsumer.accept(row);
+		};
 		try {
-			fis = new FileInputStream(file);
-			UniversalDetector detector = new UniversalDetector(null);
-
-			int read;
-			while ((read = fis.read(buf)) > 0 && !detector.isDone()) detector.handleData(buf, 0, read);
-			detector.dataEnd();
-			encoding = detector.getDetectedCharset();
+			getParsingExecutor().execute(() -> {
+				if(future.isDone()) return;
+				try {
+					int rowCount = parsingFromFile(file, extension, cancellableConsumer);
+					if(rowCount < 0) future.completeExceptionally(new IOException("Can not parse file. File name : "+file.getName()));
+					else future.complete(rowCount);
+				} catch(Throwable t) {
+					future.completeExceptionally(t);
+				}
+			});
+		} catch(RejectedExecutionException e) {
+			LoggingService.error(thisClass, e.getClass()+" for parsing file asynchronously. File name : "+file.getName(), e);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param executor 비동기 파싱에 사용할 {@link Executor}. null일 경우 기본 {@link Executor} 사용
+	 */
+	public static void setParsingExecutor(Executor executor) {
+		parsingExecutor = executor;
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @return 설정된 {@link Executor}. 설정되지 않은 경우 처음 호출할 때 기본 {@link Executor}를 생성
+	 */
+	private static Executor getParsingExecutor() {
+		Executor executor = parsingExecutor;
+		if(executor != null) return executor;
+		synchronized(thisClass) {
+			if(parsingExecutor == null) parsingExecutor = createParsingExecutor();
+			return parsingExecutor;
+		}
+	}
+	
+	/**
+	 * 가상 스레드를 사용할 수 있을 경우(Java 21 이상) 가상 스레드를, 아닐 경우 데몬 스레드 풀을 사용.
+	 * 두 경우 모두 동시에 실행되는 파싱은 CPU 개수로, 대기 중인 파싱은 {@value #PARSING_QUEUE_CAPACITY}개로 제한
+	 * @since v1.1.0
+	 * @return 기본 파싱 {@link Executor}
+	 */
+	private static Executor createParsingExecutor() {
+		int threads = Runtime.getRuntime().availableProcessors();
+		try {
+			ExecutorService virtual = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			LoggingService.info(thisClass, "Use virtual threads for file parsing.");
+			return new VirtualThreadExecutor(virtual, threads, PARSING_QUEUE_CAPACITY);
 		} catch(Exception e) {
-			LoggingService.error(thisClass, e.getClass()+" to read File.", e);
-		} finally {
-			try { if(fis != null) fis.close(); } catch (Exception e) { LoggingService.error(thisClass, e.getClass()+" to close FileInputStream.", e); }
+			LoggingService.debug(thisClass, "Virtual threads are not available. Use platform threads for file parsing.");
+		}
+		AtomicInteger threadNumber = new AtomicInteger();
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(PARSING_QUEUE_CAPACITY), r -> {
+			Thread t = new Thread(r, "file-parsing-"+threadNumber.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}, new ThreadPoolExecutor.AbortPolicy());
+		pool.allowCoreThreadTimeOut(true);
+		return pool;
+	}
+	
+	/**
+	 * BOM, UTF-8 형식 검사, {@link UniversalDetector} 순서로 인코딩을 판단하며 판단할 수 없을 경우 EUC-KR 사용. 스트림은 한 번만 읽음
+	 * @since v1.1.0
+	 * @param is csv, txt 형식의 데이터를 읽어올 {@link InputStream}. 업로드 파일 등의 스트림도 사용 가능하며 호출한 쪽에서 닫아야 함
+	 * @param delimiter 필드 구분자. ex) ',' 또는 '\t'
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. 첫번째 행보다 필드 개수가 적은 행은 빈 문자열로 채움
+	 * @return 데이터를 디코딩하는데 사용한 {@link Charset}
+	 * @throws IOException 데이터를 읽지 못한 경우
+	 */
+	public static Charset parsingFromText(InputStream is, char delimiter, Consumer<List<String>> rowConsumer) throws IOException {
+		return parsingFromText(is, delimiter, ReadOptions.ALL, rowConsumer);
+	}
+	
+	/**
+	 * 범위 앞의 행은 필드 값을 만들지 않고 건너뛰며, 범위의 마지막 행을 읽으면 스트림을 더 읽지 않음
+	 * @since v1.1.0
+	 * @param is csv, txt 형식의 데이터를 읽어올 {@link InputStream}. 호출한 쪽에서 닫아야 함
+	 * @param delimiter 필드 구분자. ex) ',' 또는 '\t'
+	 * @param options 읽어올 행 범위와 열을 지정한 {@link ReadOptions}. 열을 지정한 경우 행은 지정한 열 개수만큼의 필드를 가짐
+	 * @param rowConsumer 파싱된 행을 순서대로 전달받을 {@link Consumer}. 첫번째 행보다 필드 개수가 적은 행은 빈 문자열로 채움
+	 * @return 데이터를 디코딩하는데 사용한 {@link Charset}
+	 * @throws IOException 데이터를 읽지 못한 경우
+	 * @see #parsingFromText(InputStream, char, Consumer)
+	 */
+	public static Charset parsingFromText(InputStream is, char delimiter, ReadOptions options, Consumer<List<String>> rowConsumer) throws IOException {
+		CharsetDetectingReader reader = new CharsetDetectingReader(is);
+		CsvTokenizer tokenizer = new CsvTokenizer(reader, delimiter);
+		int varCnt = 0;
+		for(int i=0; i<options.getStartRow(); i++) {
+			int tokenLen = tokenizer.skipRow();
+			if(tokenLen < 0) return reader.getCharset();
+			if(varCnt == 0) varCnt = tokenLen;
+		}
+		int[] columns = options.getColumns();
+		if(columns != null) tokenizer.setColumns(columns);
+		List<String> valueList = null;
+		int maxRows = options.getMaxRows();
+		for(int rowCount=0; rowCount<maxRows && (valueList = tokenizer.readRow()) != null; rowCount++) {
+			int tokenLen = valueList.size();
+			if(varCnt == 0) varCnt = tokenLen;
+			if(columns == null) {
+				for(int i=tokenLen; i<varCnt; i++) valueList.add("");
+			}
+			rowConsumer.accept(valueList);
 		}
-		return encoding;
+		return reader.getCharset();
 	}
 	
 	/**
@@ -215,21 +425,11 @@ public class FileService {
 		int valueRowNum = 0;
 		try {
 			SXSSFSheet sheet = wb.createSheet("sheet1");
-			Font font = wb.createFont();
-			CellStyle style = wb.createCellStyle();
-			DataFormat format = wb.createDataFormat();
-			
-			font.setFontHeightInPoints((short)12);
-			font.setFontName("맑은 고딕");
-			style.setFont(font);
-			style.setDataFormat(format.getFormat("@"));
+			CellStyle style = createTextStyle(wb);
 			
 			List<String> titleData = valueData.get(0);
 			int titleCnt = titleData == null ? 0 : titleData.size();
-			for(int i=0; i<titleCnt; i++) {
-				sheet.setDefaultColumnStyle(i, style);
-				sheet.setColumnWidth(i, 5000);
-			}
+			setColumnStyle(sheet, style, titleCnt);
 			
 			Row row = sheet.createRow(0);
 			for(int i=0; i<titleCnt; i++) {
@@ -256,6 +456,164 @@ public class FileService {
 		}
 	}
 	
+	/**
+	 * @since v1.1.0
+	 * @param rows xlsx 파일에 순서대로 입력될 행 {@link Iterator}
+	 * @param os xlsx 파일을 출력할 {@link OutputStream}. 출력 후 닫지 않음
+	 * @return 입력된 행의 개수. 예외 발생 시 -1 리턴
+	 * @see #writeXlsx(Iterator, OutputStream, String, int, boolean)
+	 */
+	public static long writeXlsx(Iterator<? extends List<String>> rows, OutputStream os) {
+		return writeXlsx(rows, os, "sheet1", SXSSFWorkbook.DEFAULT_WINDOW_SIZE, true);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param rows xlsx 파일에 순서대로 입력될 행 {@link Stream}. 출력 후 닫지 않음
+	 * @param os xlsx 파일을 출력할 {@link OutputStream}. 출력 후 닫지 않음
+	 * @return 입력된 행의 개수. 예외 발생 시 -1 리턴
+	 * @see #writeXlsx(Iterator, OutputStream, String, int, boolean)
+	 */
+	public static long writeXlsx(Stream<? extends List<String>> rows, OutputStream os) {
+		return writeXlsx(rows.iterator(), os);
+	}
+	
+	/**
+	 * DB 커서처럼 다음 행을 직접 가져오는 경우에 사용
+	 * @since v1.1.0
+	 * @param rowSupplier 호출할 때마다 다음 행을 리턴하는 {@link Supplier}. 더 이상 입력할 행이 없을 경우 null 리턴
+	 * @param os xlsx 파일을 출력할 {@link OutputStream}. 출력 후 닫지 않음
+	 * @return 입력된 행의 개수. 예외 발생 시 -1 리턴
+	 * @see #writeXlsx(Iterator, OutputStream, String, int, boolean)
+	 */
+	public static long writeXlsx(Supplier<? extends List<String>> rowSupplier, OutputStream os) {
+		return writeXlsx(rowIterator(rowSupplier), os);
+	}
+	
+	/**
+	 * 메모리에는 windowSize 개의 행만 유지하고 나머지는 임시 파일로 내보내므로, 행 개수와 관계없이 일정한 메모리로 xlsx 파일을 생성.
+	 * 모든 셀은 {@link #createXlsx(SXSSFWorkbook, List)}와 같은 텍스트 스타일로 입력되며, 열 너비와 기본 스타일은 첫번째 행의 열 개수를 기준으로 설정.
+	 * 출력이 끝나거나 예외가 발생하면 임시 파일을 삭제
+	 * @since v1.1.0
+	 * @param rows xlsx 파일에 순서대로 입력될 행 {@link Iterator}
+	 * @param os xlsx 파일을 출력할 {@link OutputStream}. 출력 후 닫지 않음
+	 * @param sheetName 시트 이름
+	 * @param windowSize 메모리에 유지할 행 개수
+	 * @param compressTempFiles 임시 파일 압축 여부. 디스크 사용량은 줄지만 CPU 사용량이 늘어남
+	 * @return 입력된 행의 개수. 예외 발생 시 -1 리턴
+	 */
+	public static long writeXlsx(Iterator<? extends List<String>> rows, OutputStream os, String sheetName, int windowSize, boolean compressTempFiles) {
+		long time = System.currentTimeMillis();
+		long rowNum = 0;
+		SXSSFWorkbook wb = null;
+		try {
+			wb = new SXSSFWorkbook(windowSize);
+			wb.setCompressTempFiles(compressTempFiles);
+			SXSSFSheet sheet = wb.createSheet(sheetName);
+			CellStyle style = createTextStyle(wb);
+			while(rows.hasNext()) {
+				List<String> rowData = rows.next();
+				int columnCnt = rowData == null ? 0 : rowData.size();
+				if(rowNum == 0) setColumnStyle(sheet, style, columnCnt);
+				Row row = sheet.createRow((int)rowNum++);
+				for(int i=0; i<columnCnt; i++) {
+					Cell cell = row.createCell(i);
+					cell.setCellStyle(style);
+					cell.setCellValue(rowData.get(i));
+				}
+			}
+			wb.write(os);
+			os.flush();
+			LoggingService.info(thisClass, "Write xlsx. Row count : {} / Time : {}ms", rowNum, System.currentTimeMillis()-time);
+			return rowNum;
+		} catch(Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for write xlsx. Exception Row : "+rowNum, e);
+			return -1;
+		} finally {
+			try { if(wb != null) wb.dispose(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for dispose SXSSFWorkbook.", e); }
+			try { if(wb != null) wb.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close SXSSFWorkbook.", e); }
+		}
+	}
+	
+	/**
+	 * 행을 읽는 대로 RFC 4180 형식으로 출력하며, 첫번째 행과 일정 행 개수마다 flush
+	 * @since v1.1.0
+	 * @param rows 순서대로 출력될 행 {@link Iterator}
+	 * @param os 데이터를 출력할 {@link OutputStream}. 출력 후 닫지 않음
+	 * @param delimiter 필드 구분자. CSV는 ',', TSV는 '\t'
+	 * @param charset 출력할 문자 인코딩
+	 * @param bom BOM 출력 여부
+	 * @return 출력된 행의 개수. 예외 발생 시 -1 리턴
+	 * @see CsvWriter
+	 */
+	public static long writeText(Iterator<? extends List<String>> rows, OutputStream os, char delimiter, Charset charset, boolean bom) {
+		long time = System.currentTimeMillis();
+		CsvWriter writer = null;
+		try {
+			writer = new CsvWriter(os, delimiter, charset, bom);
+			while(rows.hasNext()) writer.writeRow(rows.next());
+			writer.flush();
+			LoggingService.info(thisClass, "Write text. Row count : {} / Time : {}ms", writer.getRowCount(), System.currentTimeMillis()-time);
+			return writer.getRowCount();
+		} catch(Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for write text. Exception Row : "+(writer == null ? 0 : writer.getRowCount()), e);
+			return -1;
+		}
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param rowSupplier 호출할 때마다 다음 행을 리턴하고, 더 이상 행이 없을 경우 null을 리턴하는 {@link Supplier}
+	 * @return rowSupplier가 null을 리턴할 때까지 행을 전달하는 {@link Iterator}
+	 */
+	private static <T> Iterator<T> rowIterator(Supplier<? extends T> rowSupplier) {
+		return new Iterator<T>() {
+			private T next = null;
+			private boolean done = false;
+			
+			@Override
+			public boolean hasNext() {
+				if(next == null && !done) {
+					next = rowSupplier.get();
+					done = next == null;
+				}
+				return next != null;
+			}
+			
+			@Override
+			public T next() {
+				if(!hasNext()) throw new NoSuchElementException();
+				T row = next;
+				next = null;
+				return row;
+			}
+		};
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param wb 스타일을 생성할 {@link Workbook}
+	 * @return 맑은 고딕 12pt 글꼴과 텍스트 서식이 적용된 {@link CellStyle}
+	 */
+	private static CellStyle createTextStyle(Workbook wb) {
+		Font font = wb.createFont();
+		CellStyle style = wb.createCellStyle();
+		DataFormat format = wb.createDataFormat();
+		
+		font.setFontHeightInPoints((short)12);
+		font.setFontName("맑은 고딕");
+		style.setFont(font);
+		style.setDataFormat(format.getFormat("@"));
+		return style;
+	}
+	
+	private static void setColumnStyle(Sheet sheet, CellStyle style, int columnCnt) {
+		for(int i=0; i<columnCnt; i++) {
+			sheet.setDefaultColumnStyle(i, style);
+			sheet.setColumnWidth(i, 5000);
+		}
+	}
+	
 	/**
 	 * @since v1.1.0
 	 * @param dataList 텍스트 파일에 한줄씩 입력될 {@code List<String>} 객체
@@ -283,4 +641,46 @@ public class FileService {
 		}
 		return f;
 	}
+	
+	/**
+	 * 가상 스레드로 작업을 실행하되, 동시에 실행되는 작업과 대기 중인 작업의 개수를 제한하는 {@link Executor}.
+	 * 대기 중인 작업은 가상 스레드에서 차례를 기다리므로 플랫폼 스레드를 점유하지 않음
+	 * @since v1.1.0
+	 */
+	private static class VirtualThreadExecutor implements Executor {
+		
+		private final Executor delegate;
+		private final Semaphore admission;
+		private final Semaphore running;
+		
+		private VirtualThreadExecutor(Executor delegate, int maxRunning, int queueCapacity) {
+			this.delegate = delegate;
+			this.admission = new Semaphore(maxRunning+queueCapacity);
+			this.running = new Semaphore(maxRunning);
+		}
+		
+		@Override
+		public void execute(Runnable command) {
+			if(!admission.tryAcquire()) throw new RejectedExecutionException("Too many parsing tasks.");
+			try {
+				delegate.execute(() -> {
+					try {
+						running.acquire();
+						try {
+							command.run();
+						} finally {
+							running.release();
+						}
+					} catch(InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						admission.release();
+					}
+				});
+			} catch(RejectedExecutionException e) {
+				admission.release();
+				throw e;
+			}
+		}
+	}
 }
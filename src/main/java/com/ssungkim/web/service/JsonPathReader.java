@@ -0,0 +1,187 @@
+package com.ssungkim.web.service;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.ssungkim.model.DataMap;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link JsonReader}로 JSON을 순서대로 읽으면서 경로에 해당하는 값만 객체로 만들고 나머지 값은 건너뜀.
+ * 경로는 {@code $.items[*].id}처럼 루트($)부터 .이름, ['이름'], [번호], [*], .* 형식의 구간을 이어 작성
+ * @since v1.1.0
+ * @see JsonService#extractJsonPath(java.io.InputStream, String, Consumer)
+ */
+final class JsonPathReader {
+
+	private static final int WILDCARD = -1;
+	private static final int FIELD = -2;
+
+	private final String path;
+	private final String[] names;
+	private final int[] indexes;
+
+	/**
+	 * @param path JSON 경로 문자열. ex) $, $[*], $.items[*].id, $['user name'][0]
+	 * @throws IllegalArgumentException 경로 형식이 올바르지 않은 경우
+	 */
+	JsonPathReader(String path) throws IllegalArgumentException {
+		if(path == null || !path.startsWith("$")) throw new IllegalArgumentException("JSON path must start with '$'. Path : "+path);
+		List<String> nameList = new ArrayList<String>();
+		List<Integer> indexList = new ArrayList<Integer>();
+		int len = path.length();
+		int i = 1;
+		while(i < len) {
+			char c = path.charAt(i);
+			if(c == '.') {
+				int start = ++i;
+				while(i < len && path.charAt(i) != '.' && path.charAt(i) != '[') i++;
+				String name = path.substring(start, i);
+				if(name.isEmpty()) throw new IllegalArgumentException("Empty field name in JSON path. Path : "+path);
+				nameList.add("*".equals(name) ? null : name);
+				indexList.add("*".equals(name) ? WILDCARD : FIELD);
+			} else if(c == '[') {
+				int end = path.indexOf(']', i);
+				if(end < 0) throw new IllegalArgumentException("Unclosed bracket in JSON path. Path : "+path);
+				String token = path.substring(i+1, end).trim();
+				if("*".equals(token)) {
+					nameList.add(null);
+					indexList.add(WILDCARD);
+				} else if(token.length() >= 2 && (token.charAt(0) == '\'' || token.charAt(0) == '"') && token.charAt(token.length()-1) == token.charAt(0)) {
+					nameList.add(token.substring(1, token.length()-1));
+					indexList.add(FIELD);
+				} else {
+					try {
+						int index = Integer.parseInt(token);
+						if(index < 0) throw new NumberFormatException();
+						nameList.add(null);
+						indexList.add(index);
+					} catch(NumberFormatException e) {
+						throw new IllegalArgumentException("Invalid index in JSON path. Path : "+path, e);
+					}
+				}
+				i = end+1;
+			} else throw new IllegalArgumentException("Invalid character in JSON path. Path : "+path+" / Index : "+i);
+		}
+		this.path = path;
+		this.names = nameList.toArray(new String[0]);
+		this.indexes = new int[indexList.size()];
+		for(int j=0; j<indexes.length; j++) indexes[j] = indexList.get(j);
+	}
+
+	/**
+	 * @return 마지막 구간이 [*] 또는 .*인 경로인지 여부
+	 */
+	boolean endsWithWildcard() {
+		return indexes.length > 0 && indexes[indexes.length-1] == WILDCARD;
+	}
+
+	/**
+	 * @return 현재 경로 뒤에 [*]를 붙인 {@link JsonPathReader}
+	 */
+	JsonPathReader elements() {
+		return new JsonPathReader(path+"[*]");
+	}
+
+	/**
+	 * @param reader 루트 값을 읽기 전 상태의 {@link JsonReader}
+	 * @param consumer 경로에 해당하는 값을 순서대로 전달받을 {@link Consumer}. 값은 {@link #readValue(JsonReader)}와 같은 형태
+	 * @return consumer에 전달된 값의 개수
+	 * @throws IOException JSON을 읽지 못했거나 형식이 올바르지 않은 경우
+	 */
+	long read(JsonReader reader, Consumer<Object> consumer) throws IOException {
+		long count = walk(reader, 0, consumer);
+		if(reader.peek() != JsonToken.END_DOCUMENT) throw new IOException("JSON has data after root value. Path : "+reader.getPath());
+		return count;
+	}
+
+	private long walk(JsonReader reader, int depth, Consumer<Object> consumer) throws IOException {
+		if(depth == indexes.length) {
+			consumer.accept(readValue(reader));
+			return 1;
+		}
+		JsonToken token = reader.peek();
+		int index = indexes[depth];
+		long count = 0;
+		if(token == JsonToken.BEGIN_OBJECT && index != FIELD && index != WILDCARD) {
+			reader.skipValue();
+		} else if(token == JsonToken.BEGIN_OBJECT) {
+			reader.beginObject();
+			while(reader.hasNext()) {
+				String name = reader.nextName();
+				if(index == WILDCARD || name.equals(names[depth])) count += walk(reader, depth+1, consumer);
+				else reader.skipValue();
+			}
+			reader.endObject();
+		} else if(token == JsonToken.BEGIN_ARRAY && index != FIELD) {
+			reader.beginArray();
+			for(int i=0; reader.hasNext(); i++) {
+				if(index == WILDCARD || index == i) count += walk(reader, depth+1, consumer);
+				else reader.skipValue();
+			}
+			reader.endArray();
+		} else reader.skipValue();
+		return count;
+	}
+
+	/**
+	 * 현재 위치의 값 하나를 읽어 객체로 변환
+	 * @param reader {@link JsonReader}
+	 * @return 객체는 {@link DataMap}, 배열은 {@link List}, 문자열은 {@link String}, 소수점과 지수가 없고 long 범위 안의 숫자는 {@link Long}, 그 외 숫자는 {@link Double}, true/false는 {@link Boolean}, null은 null
+	 * @throws IOException JSON을 읽지 못했거나 형식이 올바르지 않은 경우
+	 */
+	static Object readValue(JsonReader reader) throws IOException {
+		switch(reader.peek()) {
+		case BEGIN_OBJECT:
+			DataMap map = new DataMap();
+			reader.beginObject();
+			while(reader.hasNext()) {
+				String name = reader.nextName();
+				map.put(name, readValue(reader));
+			}
+			reader.endObject();
+			return map;
+		case BEGIN_ARRAY:
+			List<Object> list = new ArrayList<Object>();
+			reader.beginArray();
+			while(reader.hasNext()) list.add(readValue(reader));
+			reader.endArray();
+			return list;
+		case STRING:
+			return reader.nextString();
+		case NUMBER:
+			return toNumber(reader.nextString());
+		case BOOLEAN:
+			return reader.nextBoolean();
+		case NULL:
+			reader.nextNull();
+			return null;
+		default:
+			throw new IOException("Unexpected JSON token. Token : "+reader.peek()+" / Path : "+reader.getPath());
+		}
+	}
+
+	/**
+	 * @param s JSON 숫자 문자열
+	 * @return 소수점과 지수가 없고 long 범위 안의 숫자는 {@link Long}, 그 외 숫자는 {@link Double}
+	 */
+	static Number toNumber(String s) {
+		boolean integral = true;
+		int len = s.length();
+		for(int i=0; i<len && integral; i++) {
+			char c = s.charAt(i);
+			integral = (c >= '0' && c <= '9') || (c == '-' && i == 0);
+		}
+		if(integral && len <= 20) {
+			try {
+				return Long.parseLong(s);
+			} catch(NumberFormatException e) {
+				// long 범위를 벗어난 경우 Double로 변환
+			}
+		}
+		return Double.parseDouble(s);
+	}
+}
@@ -1,42 +1,179 @@
 package com.ssungkim.web.service;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.ssungkim.model.DataMap;
+import com.ssungkim.web.metrics.Metrics;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.io.input.CountingInputStream;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.util.FileCopyUtils;
 
-import java.io.FileReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.reflect.Array;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
 
 public class JsonService {
 
 	private static final Class<JsonService> thisClass = JsonService.class;
 	
+	private static final Gson gson = new Gson();
+	
+	private static int jsonCacheSize = 64;
+	private static final LongAdder jsonCacheHits = new LongAdder();
+	private static final LongAdder jsonCacheMisses = new LongAdder();
+	@SuppressWarnings("serial")
+	private static final Map<String, JsonCacheEntry> jsonCache = new LinkedHashMap<String, JsonCacheEntry>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, JsonCacheEntry> eldest) {
+			return size() > jsonCacheSize;
+		}
+	};
+	
 	/**
+	 * 파일에서 읽어온 JSON은 파일 경로를 key로 캐시되며, 파일의 수정 시간 또는 내용의 체크섬이 바뀐 경우에만 다시 파싱
 	 * @since v1.0.0
 	 * @param file 저장 파일 이름(확장자가 포함된 JSON 파일). ex) static/json/test.json
-	 * @return {@link JsonObject} 파일에서 읽어온 데이터를 이용해 생성된 {@link JsonObject}
+	 * @return {@link JsonObject} 파일에서 읽어온 데이터를 이용해 생성된 {@link JsonObject}. 캐시된 데이터를 보호하기 위해 항상 복사본 리턴
 	 */
 	public static JsonObject getJson(String file) {
-		FileReader reader = null;
 		JsonObject jsonObject = new JsonObject();
 		try {
 			ClassPathResource cpr = new ClassPathResource(file);
+			long lastModified = getLastModified(cpr);
+			JsonCacheEntry entry;
+			synchronized(jsonCache) {
+				entry = jsonCache.get(file);
+			}
+			if(entry != null && lastModified > 0 && entry.lastModified == lastModified) {
+				jsonCacheHits.increment();
+				return entry.json.deepCopy();
+			}
 			byte[] bdata = FileCopyUtils.copyToByteArray(cpr.getInputStream());
+			CRC32 crc = new CRC32();
+			crc.update(bdata);
+			long checksum = crc.getValue();
+			if(entry != null && entry.checksum == checksum) {
+				jsonCacheHits.increment();
+				putJsonCache(file, new JsonCacheEntry(lastModified, checksum, entry.json));
+				return entry.json.deepCopy();
+			}
+			jsonCacheMisses.increment();
 			String jsonTxt = new String(bdata, StandardCharsets.UTF_8);
-			JsonParser parser = new JsonParser();
-			jsonObject = (JsonObject)parser.parse(jsonTxt);
+			jsonObject = JsonParser.parseString(jsonTxt).getAsJsonObject();
+			putJsonCache(file, new JsonCacheEntry(lastModified, checksum, jsonObject));
+			return jsonObject.deepCopy();
 		} catch(Exception e) {
 			LoggingService.error(thisClass, e.getClass()+" for make JsonObject that is data from "+file+".json.", e);
-		} finally {
-			try { if(reader != null) reader.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close FileReader.", e); }
 		}
 		return jsonObject;
 	}
 	
+	/**
+	 * @since v1.1.0
+	 * @param size {@link #getJson(String)}에서 캐시할 최대 파일 개수. 기본값 64
+	 * @throws IllegalArgumentException size가 0보다 작을 경우
+	 */
+	public static void setJsonCacheSize(int size) throws IllegalArgumentException {
+		if(size < 0) throw new IllegalArgumentException("Cache size can not be negative. Size : "+size);
+		synchronized(jsonCache) {
+			jsonCacheSize = size;
+			Iterator<String> it = jsonCache.keySet().iterator();
+			while(jsonCache.size() > jsonCacheSize && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		}
+	}
+	
+	/**
+	 * @since v1.1.0
+	 */
+	public static void clearJsonCache() {
+		synchronized(jsonCache) {
+			jsonCache.clear();
+		}
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @return {@link #getJson(String)} 호출 중 다시 파싱하지 않고 캐시된 데이터를 사용한 횟수
+	 */
+	public static long getJsonCacheHitCount() {
+		return jsonCacheHits.sum();
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @return {@link #getJson(String)} 호출 중 파일을 새로 파싱한 횟수
+	 */
+	public static long getJsonCacheMissCount() {
+		return jsonCacheMisses.sum();
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param cpr {@link ClassPathResource}
+	 * @return 리소스의 수정 시간. 확인할 수 없을 경우 0 리턴
+	 */
+	private static long getLastModified(ClassPathResource cpr) {
+		try {
+			return cpr.lastModified();
+		} catch(IOException e) {
+			return 0L;
+		}
+	}
+	
+	private static void putJsonCache(String file, JsonCacheEntry entry) {
+		synchronized(jsonCache) {
+			if(jsonCacheSize > 0) jsonCache.put(file, entry);
+		}
+	}
+	
+	/**
+	 * {@link #getJson(String)}에서 캐시되는 파일별 데이터
+	 * @since v1.1.0
+	 */
+	private static class JsonCacheEntry {
+		
+		private final long lastModified;
+		private final long checksum;
+		private final JsonObject json;
+		
+		private JsonCacheEntry(long lastModified, long checksum, JsonObject json) {
+			this.lastModified = lastModified;
+			this.checksum = checksum;
+			this.json = json;
+		}
+	}
+	
 	/**
 	 * @since v1.0.0
 	 * @param jsonString JSON 형식으로 이루어진 문자열
@@ -44,17 +181,258 @@ public class JsonService {
 	 */
 	public static JsonObject stringToJson(String jsonString) {
 		try {
-			return (JsonObject)new JsonParser().parse(jsonString);
+			return JsonParser.parseString(jsonString).getAsJsonObject();
 		} catch(Exception e) {
 			LoggingService.error(thisClass, e.getClass()+" for parsing json String. Data : "+jsonString, e);
 			return new JsonObject();
 		}
 	}
 	
+	/**
+	 * 최상위 배열의 원소를 하나씩 {@link DataMap}으로 변환해 전달하므로 JSON 전체를 메모리에 올리지 않음
+	 * @since v1.1.0
+	 * @param is 최상위 값이 객체 배열인 UTF-8 JSON {@link InputStream}. 파싱 후 닫지 않음
+	 * @param elementConsumer 배열의 원소를 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return elementConsumer에 전달된 원소의 개수. 예외 발생 또는 중단 시 -1 리턴
+	 * @see #readJsonArray(InputStream, String, Consumer)
+	 */
+	public static long readJsonArray(InputStream is, Consumer<DataMap> elementConsumer) {
+		return readJsonArray(is, "$", elementConsumer);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param file UTF-8 JSON 파일
+	 * @param arrayPath 객체 배열의 JSON 경로. ex) $, $.items, $.data.list
+	 * @param elementConsumer 배열의 원소를 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return elementConsumer에 전달된 원소의 개수. 예외 발생 또는 중단 시 -1 리턴
+	 * @throws IllegalArgumentException 경로 형식이 올바르지 않은 경우
+	 * @see #readJsonArray(InputStream, String, Consumer)
+	 */
+	public static long readJsonArray(File file, String arrayPath, Consumer<DataMap> elementConsumer) throws IllegalArgumentException {
+		try(InputStream is = new FileInputStream(file)) {
+			return readJsonArray(is, arrayPath, elementConsumer);
+		} catch(IOException e) {
+			LoggingService.error(thisClass, e.getClass()+" for read json file. File name : "+file.getName(), e);
+			return -1;
+		}
+	}
+	
+	/**
+	 * arrayPath에 해당하는 배열의 원소만 하나씩 {@link DataMap}으로 변환해 전달하고 나머지 값은 객체로 만들지 않고 건너뜀.
+	 * 원소의 값은 {@link DataMap}, {@link List}, {@link String}, {@link Long}, {@link Double}, {@link Boolean} 또는 null로 변환
+	 * @since v1.1.0
+	 * @param is UTF-8 JSON {@link InputStream}. 파싱 후 닫지 않음
+	 * @param arrayPath 객체 배열의 JSON 경로. ex) $, $.items, $.data.list
+	 * @param elementConsumer 배열의 원소를 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return elementConsumer에 전달된 원소의 개수. 원소가 객체가 아니거나 예외 발생 또는 중단 시 -1 리턴
+	 * @throws IllegalArgumentException 경로 형식이 올바르지 않은 경우
+	 */
+	public static long readJsonArray(InputStream is, String arrayPath, Consumer<DataMap> elementConsumer) throws IllegalArgumentException {
+		JsonPathReader path = new JsonPathReader(arrayPath);
+		return readJson(is, path.endsWithWildcard() ? path : path.elements(), value -> {
+			if(!(value instanceof DataMap)) throw new JsonParseException("Array element is not a JSON object. Path : "+arrayPath+" / Value : "+value);
+			elementConsumer.accept((DataMap)value);
+		});
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param is UTF-8 JSON {@link InputStream}. 파싱 후 닫지 않음
+	 * @param path 가져올 값의 JSON 경로. ex) $.items[*].id
+	 * @return 경로에 해당하는 값을 순서대로 저장한 {@code List<Object>}. 예외 발생 시 null 리턴
+	 * @throws IllegalArgumentException 경로 형식이 올바르지 않은 경우
+	 * @see #extractJsonPath(InputStream, String, Consumer)
+	 */
+	public static List<Object> extractJsonPath(InputStream is, String path) throws IllegalArgumentException {
+		List<Object> values = new ArrayList<Object>();
+		return extractJsonPath(is, path, values::add) < 0 ? null : values;
+	}
+	
+	/**
+	 * JSON을 처음부터 순서대로 읽으면서 path에 해당하는 값만 객체로 만들어 전달하고, 나머지 값은 객체로 만들지 않고 건너뜀.
+	 * 경로는 $부터 .이름, ['이름'], [번호], [*], .* 구간을 이어 작성하며, 값은 {@link DataMap}, {@link List}, {@link String}, {@link Long}, {@link Double}, {@link Boolean} 또는 null로 변환
+	 * @since v1.1.0
+	 * @param is UTF-8 JSON {@link InputStream}. 파싱 후 닫지 않음
+	 * @param path 가져올 값의 JSON 경로. ex) $.items[*].id, $.meta.total, $[0]
+	 * @param valueConsumer 경로에 해당하는 값을 순서대로 전달받을 {@link Consumer}. {@link CancellationException}을 던지면 파싱을 중단
+	 * @return valueConsumer에 전달된 값의 개수. 예외 발생 또는 중단 시 -1 리턴
+	 * @throws IllegalArgumentException 경로 형식이 올바르지 않은 경우
+	 */
+	public static long extractJsonPath(InputStream is, String path, Consumer<Object> valueConsumer) throws IllegalArgumentException {
+		return readJson(is, new JsonPathReader(path), valueConsumer);
+	}
+	
+	private static long readJson(InputStream is, JsonPathReader path, Consumer<Object> valueConsumer) {
+		long time = System.nanoTime();
+		long[] count = new long[1];
+		CountingInputStream cis = new CountingInputStream(is);
+		boolean success = false;
+		try {
+			JsonReader reader = new JsonReader(new InputStreamReader(cis, StandardCharsets.UTF_8));
+			path.read(reader, value -> {
+				count[0]++;
+				valueConsumer.accept(value);
+			});
+			LoggingService.info(thisClass, "Success read json stream. Count : {} / Time : {}ms", count[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime()-time));
+			success = true;
+			return count[0];
+		} catch(CancellationException e) {
+			LoggingService.info(thisClass, "Cancel read json stream.");
+			return -1;
+		} catch(Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for read json stream. Count : "+count[0], e);
+			return -1;
+		} finally {
+			Metrics.recorder().recordParse("json", count[0], cis.getByteCount(), System.nanoTime()-time, success);
+		}
+	}
+	
+	/**
+	 * {@link JsonObject}를 한 번의 순회로 {@link DataMap}으로 변환. {@link #jsonToMap(JsonObject)}와 달리 값에 {@link JsonElement}를 남기지 않음
+	 * @since v1.1.0
+	 * @param json 변환할 {@link JsonObject}
+	 * @return 객체는 {@link DataMap}, 배열은 {@link List}, 문자열은 {@link String}, 정수는 {@link Long}, 그 외 숫자는 {@link Double}, true/false는 {@link Boolean}, null은 null로 변환한 {@link DataMap}
+	 */
+	public static DataMap jsonToDataMap(JsonObject json) {
+		DataMap map = new DataMap();
+		for(Map.Entry<String, JsonElement> entry : json.entrySet()) map.put(entry.getKey(), toValue(entry.getValue()));
+		return map;
+	}
+	
+	/**
+	 * 문자열을 {@link JsonObject}로 만들지 않고 바로 {@link DataMap}으로 변환
+	 * @since v1.1.0
+	 * @param jsonString 최상위 값이 객체인 JSON 문자열
+	 * @return 변환된 {@link DataMap}. 형식이 올바르지 않을 경우 빈 {@link DataMap} 리턴
+	 * @see #jsonToDataMap(JsonObject)
+	 */
+	public static DataMap stringToDataMap(String jsonString) {
+		try {
+			return readDataMap(new JsonReader(new StringReader(jsonString)));
+		} catch(Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for parsing json String to DataMap. Data : "+jsonString, e);
+			return new DataMap();
+		}
+	}
+	
+	/**
+	 * 요청 본문 등의 스트림을 {@link JsonObject}로 만들지 않고 바로 {@link DataMap}으로 변환
+	 * @since v1.1.0
+	 * @param is 최상위 값이 객체인 UTF-8 JSON {@link InputStream}. 파싱 후 닫지 않음
+	 * @return 변환된 {@link DataMap}. 예외 발생 시 null 리턴
+	 * @see #jsonToDataMap(JsonObject)
+	 */
+	public static DataMap readDataMap(InputStream is) {
+		try {
+			return readDataMap(new JsonReader(new InputStreamReader(is, StandardCharsets.UTF_8)));
+		} catch(Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for read json stream to DataMap.", e);
+			return null;
+		}
+	}
+	
+	private static DataMap readDataMap(JsonReader reader) throws IOException {
+		if(reader.peek() != JsonToken.BEGIN_OBJECT) throw new JsonParseException("JSON root is not an object. Token : "+reader.peek());
+		DataMap map = (DataMap)JsonPathReader.readValue(reader);
+		if(reader.peek() != JsonToken.END_DOCUMENT) throw new JsonParseException("JSON has data after root value. Path : "+reader.getPath());
+		return map;
+	}
+	
+	private static Object toValue(JsonElement element) {
+		if(element == null || element.isJsonNull()) return null;
+		if(element.isJsonObject()) return jsonToDataMap(element.getAsJsonObject());
+		if(element.isJsonArray()) {
+			JsonArray array = element.getAsJsonArray();
+			List<Object> list = new ArrayList<Object>(array.size());
+			for(JsonElement e : array) list.add(toValue(e));
+			return list;
+		}
+		JsonPrimitive primitive = element.getAsJsonPrimitive();
+		if(primitive.isBoolean()) return primitive.getAsBoolean();
+		if(primitive.isNumber()) return JsonPathReader.toNumber(primitive.getAsString());
+		return primitive.getAsString();
+	}
+	
+	/**
+	 * {@link JsonObject}를 만들지 않고 {@link JsonWriter}로 응답에 바로 출력. Content-Type은 application/json, 인코딩은 UTF-8
+	 * @since v1.1.0
+	 * @param response {@link HttpServletResponse}
+	 * @param value 출력할 값. {@link #writeJson(Writer, Object)} 참고
+	 * @return 출력이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 */
+	public static boolean writeJson(HttpServletResponse response, Object value) {
+		response.setContentType("application/json; charset=UTF-8");
+		response.setCharacterEncoding("UTF-8");
+		try {
+			return writeJson(response.getWriter(), value);
+		} catch(IOException e) {
+			LoggingService.error(thisClass, e.getClass()+" for get response Writer.", e);
+			return false;
+		}
+	}
+	
+	/**
+	 * 값을 순회하면서 바로 JSON으로 출력하므로 중간 {@link JsonObject}를 만들지 않음.
+	 * {@link Map}은 객체, {@link Iterable}, {@link Iterator}와 배열은 배열, {@link Number}와 {@link Boolean}은 그대로, 유한하지 않은 실수와 null은 null, 그 외 값은 toString() 문자열로 출력.
+	 * {@link JsonElement}는 그대로 출력
+	 * @since v1.1.0
+	 * @param writer 출력할 {@link Writer}. flush 후 닫지 않음
+	 * @param value 출력할 값. ex) {@link DataMap}, {@code List<DataMap>}, DB 조회 결과 {@link Iterator}
+	 * @return 출력이 정상적으로 끝난 경우 true 리턴, 예외 발생 시 false 리턴
+	 */
+	public static boolean writeJson(Writer writer, Object value) {
+		try {
+			JsonWriter jsonWriter = new JsonWriter(writer);
+			jsonWriter.setSerializeNulls(true);
+			writeValue(jsonWriter, value);
+			jsonWriter.flush();
+			return true;
+		} catch(Exception e) {
+			LoggingService.error(thisClass, e.getClass()+" for write json.", e);
+			return false;
+		}
+	}
+	
+	private static void writeValue(JsonWriter writer, Object value) throws IOException {
+		if(value == null) writer.nullValue();
+		else if(value instanceof JsonElement) gson.toJson((JsonElement)value, writer);
+		else if(value instanceof String) writer.value((String)value);
+		else if(value instanceof Boolean) writer.value((Boolean)value);
+		else if(value instanceof Double || value instanceof Float) {
+			double d = ((Number)value).doubleValue();
+			if(Double.isNaN(d) || Double.isInfinite(d)) writer.nullValue();
+			else writer.value(d);
+		} else if(value instanceof Number) writer.value((Number)value);
+		else if(value instanceof Map) {
+			writer.beginObject();
+			for(Map.Entry<?, ?> entry : ((Map<?, ?>)value).entrySet()) {
+				writer.name(String.valueOf(entry.getKey()));
+				writeValue(writer, entry.getValue());
+			}
+			writer.endObject();
+		} else if(value instanceof Iterable) writeArray(writer, ((Iterable<?>)value).iterator());
+		else if(value instanceof Iterator) writeArray(writer, (Iterator<?>)value);
+		else if(value instanceof Object[]) writeArray(writer, Arrays.asList((Object[])value).iterator());
+		else if(value.getClass().isArray()) {
+			writer.beginArray();
+			int len = Array.getLength(value);
+			for(int i=0; i<len; i++) writeValue(writer, Array.get(value, i));
+			writer.endArray();
+		} else writer.value(value.toString());
+	}
+	
+	private static void writeArray(JsonWriter writer, Iterator<?> it) throws IOException {
+		writer.beginArray();
+		while(it.hasNext()) writeValue(writer, it.next());
+		writer.endArray();
+	}
+	
 	/**
 	 * @since v1.0.0
 	 * @param json HashMap 형식으로 변환할 JsonObject
 	 * @return {@link JsonObject}의 데이터를 저장한 {@link HashMap<String, Object>}
+	 * @see #jsonToDataMap(JsonObject)
 	 */
 	public static HashMap<String, Object> jsonToMap(JsonObject json) {
 		Set<String> keySet = json.keySet();
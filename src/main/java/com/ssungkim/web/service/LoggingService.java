@@ -4,17 +4,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 @Component
 public class LoggingService {
 
+	private static final Map<Class<?>, Logger> loggers = new ConcurrentHashMap<Class<?>, Logger>();
+
 	/**
 	 * @since v1.0.0
 	 * @param className 로깅 처리될 클래스
-	 * @return 로깅 처리를 진행할 {@link Logger} 객체
+	 * @return 로깅 처리를 진행할 {@link Logger} 객체. 클래스별로 한 번만 생성
 	 * @see Logger
 	 */
 	private static Logger createLogger(Class<?> className) {
-		return LoggerFactory.getLogger(className);
+		Logger logger = loggers.get(className);
+		if(logger == null) logger = loggers.computeIfAbsent(className, LoggerFactory::getLogger);
+		return logger;
 	}
 	
 	/**
@@ -26,6 +34,47 @@ public class LoggingService {
 		createLogger(className).info(logData);
 	}
 	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @param format Info 레벨로 로깅 처리될 {@code {}} 형식의 문자열
+	 * @param arg format의 {@code {}}에 들어갈 값
+	 */
+	public static void info(Class<?> className, String format, Object arg) {
+		createLogger(className).info(format, arg);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @param format Info 레벨로 로깅 처리될 {@code {}} 형식의 문자열
+	 * @param arg1 format의 첫번째 {@code {}}에 들어갈 값
+	 * @param arg2 format의 두번째 {@code {}}에 들어갈 값
+	 */
+	public static void info(Class<?> className, String format, Object arg1, Object arg2) {
+		createLogger(className).info(format, arg1, arg2);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @param format Info 레벨로 로깅 처리될 {@code {}} 형식의 문자열
+	 * @param args format의 {@code {}}에 순서대로 들어갈 값
+	 */
+	public static void info(Class<?> className, String format, Object... args) {
+		createLogger(className).info(format, args);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @param logData Info 레벨이 활성화된 경우에만 호출되어 로깅 처리될 문자열을 만드는 {@link Supplier}
+	 */
+	public static void info(Class<?> className, Supplier<String> logData) {
+		Logger logger = createLogger(className);
+		if(logger.isInfoEnabled()) logger.info(logData.get());
+	}
+	
 	/**
 	 * @since v1.0.0
 	 * @param className 로깅 처리될 클래스
@@ -35,15 +84,77 @@ public class LoggingService {
 		createLogger(className).debug(logData);
 	}
 	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @param format Debug 레벨로 로깅 처리될 {@code {}} 형식의 문자열
+	 * @param arg format의 {@code {}}에 들어갈 값
+	 */
+	public static void debug(Class<?> className, String format, Object arg) {
+		createLogger(className).debug(format, arg);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @param format Debug 레벨로 로깅 처리될 {@code {}} 형식의 문자열
+	 * @param arg1 format의 첫번째 {@code {}}에 들어갈 값
+	 * @param arg2 format의 두번째 {@code {}}에 들어갈 값
+	 */
+	public static void debug(Class<?> className, String format, Object arg1, Object arg2) {
+		createLogger(className).debug(format, arg1, arg2);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @param format Debug 레벨로 로깅 처리될 {@code {}} 형식의 문자열
+	 * @param args format의 {@code {}}에 순서대로 들어갈 값
+	 */
+	public static void debug(Class<?> className, String format, Object... args) {
+		createLogger(className).debug(format, args);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @param logData Debug 레벨이 활성화된 경우에만 호출되어 로깅 처리될 문자열을 만드는 {@link Supplier}
+	 */
+	public static void debug(Class<?> className, Supplier<String> logData) {
+		Logger logger = createLogger(className);
+		if(logger.isDebugEnabled()) logger.debug(logData.get());
+	}
+	
 	/**
 	 * @since v1.0.0
 	 * @param className 로깅 처리될 클래스
 	 * @param logData Error 레벨로 로깅 처리될 문자열
-	 * @param e 발생한 {@code Exception} 클래스
+	 * @param e 발생한 {@code Exception} 클래스. 스택 트레이스는 {@link Logger}를 통해 함께 로깅 처리
+	 * @see #error(Class, String, Throwable)
 	 */
 	public static void error(Class<?> className, String logData, Exception e) {
-		createLogger(className).error(logData);
-		e.printStackTrace();
+		error(className, logData, (Throwable)e);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @param logData Error 레벨로 로깅 처리될 문자열
+	 * @param t 발생한 {@link Throwable}. 스택 트레이스는 {@link Logger}를 통해 함께 로깅 처리
+	 */
+	public static void error(Class<?> className, String logData, Throwable t) {
+		createLogger(className).error(logData, t);
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @param logData Error 레벨이 활성화된 경우에만 호출되어 로깅 처리될 문자열을 만드는 {@link Supplier}
+	 * @param t 발생한 {@link Throwable}. 스택 트레이스는 {@link Logger}를 통해 함께 로깅 처리
+	 */
+	public static void error(Class<?> className, Supplier<String> logData, Throwable t) {
+		Logger logger = createLogger(className);
+		if(logger.isErrorEnabled()) logger.error(logData.get(), t);
 	}
 	
 	/**
@@ -54,4 +165,22 @@ public class LoggingService {
 	public static boolean isInfoEnabled(Class<?> className) {
 		return createLogger(className).isInfoEnabled();
 	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @return Debug 레벨의 로깅 처리가 가능할 경우 true 리턴, 아닐 경우 false 리턴
+	 */
+	public static boolean isDebugEnabled(Class<?> className) {
+		return createLogger(className).isDebugEnabled();
+	}
+	
+	/**
+	 * @since v1.1.0
+	 * @param className 로깅 처리될 클래스
+	 * @return Error 레벨의 로깅 처리가 가능할 경우 true 리턴, 아닐 경우 false 리턴
+	 */
+	public static boolean isErrorEnabled(Class<?> className) {
+		return createLogger(className).isErrorEnabled();
+	}
 }
@@ -0,0 +1,249 @@
+package com.ssungkim.web.service;
+
+import com.ssungkim.model.DataMap;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * 파싱하거나 정렬한 전체 데이터를 세션 또는 쿼리 단위의 key로 캐시해 두고 요청한 페이지만 잘라서 전달.
+ * 같은 key로 다시 요청하면 데이터를 다시 만들지 않으므로 업로드 파일의 페이지를 넘길 때 파일은 한 번만 파싱하며, 페이지는 페이지 크기만큼의 비용으로 생성.
+ * 캐시는 최근에 사용한 순서로 설정된 개수만큼 유지하고, 설정된 시간 동안 사용하지 않은 데이터는 삭제
+ * <pre>
+ * DataMap map = new DataMap();
+ * List&lt;List&lt;String&gt;&gt; rows = PagingService.getPage(request, "upload", () -&gt; FileService.parsingFromFile(file, "xlsx"), page, 20, map);
+ * </pre>
+ * @since v1.1.0
+ * @see ParameterService#settingPageData(DataMap, int, int, int)
+ */
+public class PagingService {
+
+	private static final Class<PagingService> thisClass = PagingService.class;
+
+	private static volatile int cacheSize = 100;
+	private static volatile long expireAfterAccessNanos = Duration.ofMinutes(30).toNanos();
+
+	private static final Map<String, CachedData> cache = new LinkedHashMap<String, CachedData>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedData> eldest) {
+			return size() > cacheSize;
+		}
+	};
+
+	private PagingService() {}
+
+	/**
+	 * @since v1.1.0
+	 * @param size 캐시할 데이터의 최대 개수. 기본값 100
+	 * @throws IllegalArgumentException size가 1보다 작을 경우
+	 */
+	public static void setCacheSize(int size) throws IllegalArgumentException {
+		if(size < 1) throw new IllegalArgumentException("Cache size must be positive. Size : "+size);
+		cacheSize = size;
+		synchronized(cache) {
+			Iterator<String> it = cache.keySet().iterator();
+			while(cache.size() > size && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param duration 마지막으로 사용한 후 데이터를 캐시에서 삭제할 때까지의 시간. 기본값 30분
+	 * @throws IllegalArgumentException duration이 null이거나 0 이하일 경우
+	 */
+	public static void setExpireAfterAccess(Duration duration) throws IllegalArgumentException {
+		if(duration == null || duration.isZero() || duration.isNegative()) throw new IllegalArgumentException("Expire duration must be positive. Duration : "+duration);
+		expireAfterAccessNanos = duration.toNanos();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param req {@link HttpServletRequest}. 세션이 없을 경우 새로 생성
+	 * @param query 같은 세션 안에서 데이터를 구분할 문자열. ex) 업로드 파일 이름, 검색 조건
+	 * @return 세션 ID와 query로 만든 캐시 key
+	 */
+	public static String sessionKey(HttpServletRequest req, String query) {
+		return req.getSession().getId()+":"+query;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param req {@link HttpServletRequest}. 세션이 없을 경우 새로 생성
+	 * @param query 같은 세션 안에서 데이터를 구분할 문자열
+	 * @param loader 캐시에 데이터가 없을 때 전체 데이터를 만드는 {@link Supplier}. 예외 발생 시 null을 리턴해야 함
+	 * @param page 현재 페이지. 1보다 작을 경우 1
+	 * @param countPerPage 한 페이지에 보여질 데이터 개수
+	 * @param map 페이징 처리를 위한 데이터를 입력할 {@link DataMap}. null일 경우 입력하지 않음
+	 * @return page에 해당하는 데이터 목록. loader가 null을 리턴한 경우 null 리턴
+	 * @throws IllegalArgumentException countPerPage가 1보다 작을 경우
+	 * @see #getPage(String, Supplier, int, int, DataMap)
+	 */
+	public static <T> List<T> getPage(HttpServletRequest req, String query, Supplier<? extends List<T>> loader, int page, int countPerPage, DataMap map) throws IllegalArgumentException {
+		return getPage(sessionKey(req, query), loader, page, countPerPage, map);
+	}
+
+	/**
+	 * 캐시된 데이터에서 page에 해당하는 부분만 복사해 리턴하고, map에 {@link ParameterService#settingPageData(DataMap, int, int, int)}와 같은 페이징 데이터와 totalCount를 입력
+	 * @since v1.1.0
+	 * @param key 캐시 key
+	 * @param loader 캐시에 데이터가 없을 때 전체 데이터를 만드는 {@link Supplier}. 같은 key의 동시 요청에서도 한 번만 호출되며, 예외 발생 시 null을 리턴해야 함
+	 * @param page 현재 페이지. 1보다 작을 경우 1
+	 * @param countPerPage 한 페이지에 보여질 데이터 개수
+	 * @param map 페이징 처리를 위한 데이터를 입력할 {@link DataMap}. null일 경우 입력하지 않음
+	 * @return page에 해당하는 데이터 목록. 마지막 페이지 이후일 경우 빈 리스트, loader가 null을 리턴한 경우 null 리턴
+	 * @throws IllegalArgumentException countPerPage가 1보다 작을 경우
+	 */
+	public static <T> List<T> getPage(String key, Supplier<? extends List<T>> loader, int page, int countPerPage, DataMap map) throws IllegalArgumentException {
+		if(countPerPage < 1) throw new IllegalArgumentException("Count per page must be positive. Count : "+countPerPage);
+		List<T> data = getData(key, loader);
+		if(data == null) return null;
+		int nowPage = Math.max(1, page);
+		if(map != null) {
+			ParameterService.settingPageData(map, nowPage, data.size(), countPerPage);
+			map.put("totalCount", data.size());
+		}
+		return slice(data, (long)(nowPage-1)*countPerPage, countPerPage);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param key 캐시 key
+	 * @param loader 캐시에 데이터가 없을 때 전체 데이터를 만드는 {@link Supplier}. 예외 발생 시 null을 리턴해야 함
+	 * @param offset 가져올 첫번째 데이터의 위치(0부터 시작)
+	 * @param limit 가져올 데이터의 최대 개수
+	 * @return offset부터 limit개의 데이터 목록. loader가 null을 리턴한 경우 null 리턴
+	 * @throws IllegalArgumentException offset이 0보다 작거나 limit이 1보다 작을 경우
+	 */
+	public static <T> List<T> getRange(String key, Supplier<? extends List<T>> loader, long offset, int limit) throws IllegalArgumentException {
+		if(offset < 0 || limit < 1) throw new IllegalArgumentException("Invalid range. Offset : "+offset+" / Limit : "+limit);
+		List<T> data = getData(key, loader);
+		return data == null ? null : slice(data, offset, limit);
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param key 캐시 key
+	 * @return 캐시된 데이터의 전체 개수. 캐시에 없을 경우 -1 리턴
+	 */
+	public static int getTotalCount(String key) {
+		CachedData cached = getCached(key);
+		List<?> data = cached == null ? null : cached.data;
+		return data == null ? -1 : data.size();
+	}
+
+	/**
+	 * 원본 데이터가 바뀐 경우 호출해 다음 요청에서 다시 만들도록 함
+	 * @since v1.1.0
+	 * @param key 캐시 key
+	 */
+	public static void invalidate(String key) {
+		synchronized(cache) {
+			cache.remove(key);
+		}
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param req {@link HttpServletRequest}. 세션이 없을 경우 아무 작업도 하지 않음
+	 * @return 삭제된 데이터 개수
+	 */
+	public static int invalidateSession(HttpServletRequest req) {
+		if(req.getSession(false) == null) return 0;
+		String prefix = req.getSession(false).getId()+":";
+		int removed = 0;
+		synchronized(cache) {
+			Iterator<String> it = cache.keySet().iterator();
+			while(it.hasNext()) {
+				if(it.next().startsWith(prefix)) {
+					it.remove();
+					removed++;
+				}
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * @since v1.1.0
+	 */
+	public static void clear() {
+		synchronized(cache) {
+			cache.clear();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> getData(String key, Supplier<? extends List<T>> loader) {
+		CachedData cached;
+		synchronized(cache) {
+			cached = getCached(key);
+			if(cached == null) {
+				cached = new CachedData();
+				cache.put(key, cached);
+			}
+		}
+		List<?> data = cached.load(loader);
+		if(data == null) {
+			synchronized(cache) {
+				if(cache.get(key) == cached) cache.remove(key);
+			}
+			LoggingService.info(thisClass, "Fail to load paging data. Key : {}", key);
+		}
+		return (List<T>)data;
+	}
+
+	/**
+	 * @return key에 해당하는 캐시 데이터. 만료된 경우 삭제 후 null 리턴
+	 */
+	private static CachedData getCached(String key) {
+		synchronized(cache) {
+			CachedData cached = cache.get(key);
+			if(cached == null) return null;
+			long now = System.nanoTime();
+			if(now-cached.lastAccess > expireAfterAccessNanos) {
+				cache.remove(key);
+				return null;
+			}
+			cached.lastAccess = now;
+			return cached;
+		}
+	}
+
+	private static <T> List<T> slice(List<T> data, long offset, int limit) {
+		int size = data.size();
+		if(offset >= size) return new ArrayList<T>();
+		int from = (int)offset;
+		int to = (int)Math.min(size, offset+limit);
+		return new ArrayList<T>(data.subList(from, to));
+	}
+
+	/**
+	 * 캐시된 전체 데이터. 같은 key의 동시 요청이 데이터를 한 번만 만들도록 데이터를 만드는 동안 잠금
+	 */
+	private static class CachedData {
+
+		private volatile List<?> data;
+		private volatile long lastAccess = System.nanoTime();
+
+		private synchronized List<?> load(Supplier<? extends List<?>> loader) {
+			if(data != null) return data;
+			long time = System.nanoTime();
+			List<?> loaded = loader.get();
+			if(loaded == null) return null;
+			data = loaded instanceof RandomAccess ? Collections.unmodifiableList(loaded) : Collections.unmodifiableList(new ArrayList<Object>(loaded));
+			LoggingService.debug(thisClass, "Load paging data. Count : {} / Time : {}ms", data.size(), (System.nanoTime()-time)/1_000_000);
+			return data;
+		}
+	}
+}
@@ -2,6 +2,8 @@ package com.ssungkim.web.service;
 
 import com.ssungkim.model.DataMap;
 import com.ssungkim.model.RegexType;
+import com.ssungkim.model.ValidationException;
+import com.ssungkim.web.metrics.Metrics;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.expression.ParseException;
@@ -173,6 +175,18 @@ public class ParameterService {
 		return n;
 	}
 	
+	/**
+	 * @since v1.1.0
+	 * @param req {@link HttpServletRequest}
+	 * @param type 파라미터를 입력할 record 또는 POJO 클래스
+	 * @return 모든 파라미터 값이 입력된 객체
+	 * @throws ValidationException 필수 파라미터가 없거나 값을 변환하지 못한 경우. 발견된 모든 문제를 포함
+	 * @see RequestBinder#bind(HttpServletRequest, Class)
+	 */
+	public static <T> T bindParameters(HttpServletRequest req, Class<T> type) throws ValidationException {
+		return RequestBinder.bind(req, type);
+	}
+	
 	/**
 	 * @since v1.0.0
 	 * @param mreq {@link MultipartHttpServletRequest}
@@ -187,18 +201,21 @@ public class ParameterService {
 		MultipartFile file = mreq.getFile(key);
 		File f = null;
 		if(file == null) {
-			LoggingService.info(thisClass, "MultipartHttpServletRequest has not file about key. Key : "+key);
+			LoggingService.info(thisClass, "MultipartHttpServletRequest has not file about key. Key : {}", key);
 			throw new NullPointerException();
 		} else {
 			try {
 				f = new File(directory, FilenameUtils.getName(name));
 				file.transferTo(f);
-				LoggingService.info(thisClass, "Success to make file about "+key+". Directory : "+directory+" / Name : "+name);
+				Metrics.recorder().recordUpload(file.getSize(), true);
+				LoggingService.info(thisClass, "Success to make file about {}. Directory : {} / Name : {}", key, directory, name);
 			} catch(NotDirectoryException e) {
 				LoggingService.error(thisClass, e.getClass()+" for transfer file. Directory : "+directory, e);
+				Metrics.recorder().recordUpload(file.getSize(), false);
 				throw new NotDirectoryException(directory);
 			} catch(Exception e) {
 				LoggingService.error(thisClass, e.getClass()+" for transfer file. Directory : "+directory+" / Dame : "+name, e);
+				Metrics.recorder().recordUpload(file.getSize(), false);
 				return null;
 			}
 		}
@@ -217,7 +234,7 @@ public class ParameterService {
 	public static String[] getRequestStringArray(HttpServletRequest req, String key) throws NullPointerException {
 		String[] ar = req.getParameterValues(key);
 		if(ar == null) {
-			LoggingService.info(thisClass, "HttpServletRequest has not file about key. Key : "+key);
+			LoggingService.info(thisClass, "HttpServletRequest has not file about key. Key : {}", key);
 			throw new NullPointerException();
 		} else {
 			int len = ar.length;
@@ -296,7 +313,7 @@ public class ParameterService {
 		while(enums.hasMoreElements()) {
 			String key = enums.nextElement();
 			Object value = req.getParameter(key);
-			LoggingService.info(thisClass, "Key : "+key+" / Value : "+value);
+			LoggingService.info(thisClass, "Key : {} / Value : {}", key, value);
 		}
 		LoggingService.info(thisClass, "### End Print All Parameters ###");
 	}
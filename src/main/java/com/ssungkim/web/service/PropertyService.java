@@ -4,38 +4,117 @@ import org.apache.commons.io.FilenameUtils;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.UnsupportedEncodingException;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PropertyService {
 
 	private static final Class<PropertyService> thisClass = PropertyService.class;
-	
+
+	private static final Map<String, PropertySnapshot> propertyCache = new ConcurrentHashMap<String, PropertySnapshot>();
+	private static volatile long reloadCheckInterval = 1000L;
+
 	/**
+	 * 파일은 처음 조회할 때 한 번만 읽어 UTF-8로 변환된 값을 캐시하고, 이후 조회는 캐시된 값을 사용.
+	 * 파일의 수정 시간이나 크기가 바뀐 경우 다시 읽어 캐시를 교체
 	 * @since v1.0.0
 	 * @param file 확장자를 포함한 저장된 파일 명
 	 * @param directory 저장된 파일 경로
 	 * @param key 파일에서 가져올 key 문자열
-	 * @return 파일에서 key에 해당하는 문자열 값. 해당하는 값이 없을경우 빈 문자열 리턴
+	 * @return 파일에서 key에 해당하는 문자열 값. 해당하는 값이 없거나 파일을 읽지 못한 경우 null 리턴
 	 */
 	public static String getProperty(String file, String directory, String key) {
-		Properties properties = new Properties();
-		FileInputStream fis = null;
 		try {
 			String path = thisClass.getResource("/").getPath()+"/"+directory+"/";
 			File f = new File(path, FilenameUtils.getName(file));
-			fis = new FileInputStream(f);
-			properties.load(fis);
-			return new String(properties.getProperty(key).getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8);
-		} catch(UnsupportedEncodingException e) {
-			LoggingService.error(thisClass, e.getClass()+" during encode to UTF-8.", e);
-			return properties.getProperty(key);
+			return getSnapshot(f).values.get(key);
 		} catch (Exception e) {
 			LoggingService.error(thisClass, e.getClass()+" for get "+key+" from "+directory+"/"+file, e);
-			return properties.getProperty(key);
-		} finally {
-			try { if(fis != null) fis.close(); } catch(Exception e) { LoggingService.error(thisClass, e.getClass()+" for close FileInputStream.", e); }
+			return null;
+		}
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param millis 캐시된 파일의 변경 여부를 확인하는 최소 간격(ms). 0일 경우 조회할 때마다 확인. 기본값 1000ms
+	 * @throws IllegalArgumentException millis가 0보다 작을 경우
+	 */
+	public static void setReloadCheckInterval(long millis) throws IllegalArgumentException {
+		if(millis < 0) throw new IllegalArgumentException("Interval can not be negative. Interval : "+millis);
+		reloadCheckInterval = millis;
+	}
+
+	/**
+	 * @since v1.1.0
+	 */
+	public static void clearPropertyCache() {
+		propertyCache.clear();
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param f 프로퍼티 파일
+	 * @return 파일의 현재 내용에 해당하는 {@link PropertySnapshot}
+	 * @throws IOException 파일을 읽지 못한 경우
+	 */
+	private static PropertySnapshot getSnapshot(File f) throws IOException {
+		String cacheKey = f.getPath();
+		PropertySnapshot snapshot = propertyCache.get(cacheKey);
+		long now = System.currentTimeMillis();
+		if(snapshot != null && now-snapshot.checkedAt < reloadCheckInterval) return snapshot;
+		long lastModified = f.lastModified();
+		long length = f.length();
+		if(snapshot != null && snapshot.lastModified == lastModified && snapshot.length == length) {
+			snapshot.checkedAt = now;
+			return snapshot;
+		}
+		PropertySnapshot loaded = loadSnapshot(f, lastModified, length, now);
+		propertyCache.put(cacheKey, loaded);
+		LoggingService.info(thisClass, "Load property file. File : {}", cacheKey);
+		return loaded;
+	}
+
+	/**
+	 * @since v1.1.0
+	 * @param f 프로퍼티 파일
+	 * @param lastModified 파일 수정 시간
+	 * @param length 파일 크기
+	 * @param now 변경 여부를 확인한 시간
+	 * @return 파일의 모든 값을 UTF-8로 변환해 저장한 {@link PropertySnapshot}
+	 * @throws IOException 파일을 읽지 못한 경우
+	 */
+	private static PropertySnapshot loadSnapshot(File f, long lastModified, long length, long now) throws IOException {
+		Properties properties = new Properties();
+		try(FileInputStream fis = new FileInputStream(f)) {
+			properties.load(fis);
+		}
+		Map<String, String> values = new HashMap<String, String>();
+		for(String key : properties.stringPropertyNames()) {
+			values.put(key, new String(properties.getProperty(key).getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8));
+		}
+		return new PropertySnapshot(Map.copyOf(values), lastModified, length, now);
+	}
+
+	/**
+	 * 한 번 읽어온 프로퍼티 파일의 변경 불가능한 값 목록. 파일이 바뀌면 새 객체로 교체되므로 조회 시 잠금이 필요 없음
+	 * @since v1.1.0
+	 */
+	private static class PropertySnapshot {
+
+		private final Map<String, String> values;
+		private final long lastModified;
+		private final long length;
+		private volatile long checkedAt;
+
+		private PropertySnapshot(Map<String, String> values, long lastModified, long length, long checkedAt) {
+			this.values = values;
+			this.lastModified = lastModified;
+			this.length = length;
+			this.checkedAt = checkedAt;
 		}
 	}
 }
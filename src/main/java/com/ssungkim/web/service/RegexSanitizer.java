@@ -0,0 +1,245 @@
+package com.ssungkim.web.service;
+
+import com.ssungkim.model.RegexType;
+import com.ssungkim.web.metrics.Metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link RegexType}별 정규식을 한 번만 컴파일해 두고, 문자 집합 형태의 타입(ID, PASSWORD, INTEGER, DOUBLE)과 EXPRESSION 타입은 정규식 없이 한 번의 순회로 처리.
+ * 변경할 내용이 없을 경우 새 문자열을 만들지 않고 원본 문자열을 그대로 리턴
+ * @since v1.1.0
+ */
+final class RegexSanitizer {
+
+	private static final Map<RegexType, Pattern> patterns = new EnumMap<RegexType, Pattern>(RegexType.class);
+	private static final Map<RegexType, boolean[]> allowedChars = new EnumMap<RegexType, boolean[]>(RegexType.class);
+
+	private static final String[] entities = {"&gt;", "&lt;", "&amp;", "&quot;", "&#39;"};		// > < & " '
+
+	static {
+		for(RegexType type : RegexType.values()) patterns.put(type, Pattern.compile(regex(type)));
+		allowedChars.put(RegexType.ID, allowed("a-zA-Z0-9_"));
+		allowedChars.put(RegexType.PASSWORD, allowed("a-zA-Z0-9!@#$%^&*?_~"));
+		allowedChars.put(RegexType.INTEGER, allowed("0-9-"));
+		allowedChars.put(RegexType.DOUBLE, allowed("0-9.-"));
+	}
+
+	private RegexSanitizer() {}
+
+	/**
+	 * @param type {@link RegexType}
+	 * @return 타입에 해당하는 정규식 문자열 리턴
+	 * @throws IllegalArgumentException 올바르지 않은 {@link RegexType}이 파라미터로 들어올 경우
+	 */
+	static String regex(RegexType type) throws IllegalArgumentException {
+		String regex = "";
+		if(type == RegexType.ID) regex = "[^a-zA-Z0-9_]";
+		else if(type == RegexType.PASSWORD) regex = "[^a-zA-Z0-9!@#$%^&*?_~]";		// !@#$%^&*?_~
+		else if(type == RegexType.EMAIL) regex = "^([\\S\\d]+)@(\\S+)[.](\\S+.?\\S+)$";
+		else if(type == RegexType.EXPRESSION) regex = "(&gt;)|(&lt;)|(&amp;)|(&quot;)|(&#39;)";		// > < & " '
+		else if(type == RegexType.INTEGER) regex = "[^0-9-]";
+		else if(type == RegexType.DOUBLE) regex = "[^0-9.-]";
+		else throw new IllegalArgumentException();
+		return regex;
+	}
+
+	/**
+	 * @param type {@link RegexType}
+	 * @param data 정규식을 체크하기 위한 값
+	 * @return 타입에 해당하는 정규식에 매칭되는 단어가 있을 경우 true 리턴
+	 * @throws IllegalArgumentException 올바르지 않은 {@link RegexType}이 파라미터로 들어올 경우
+	 */
+	static boolean hasMatch(RegexType type, String data) throws IllegalArgumentException {
+		boolean matched = match(type, data);
+		Metrics.recorder().recordSanitize(type, matched);
+		return matched;
+	}
+
+	private static boolean match(RegexType type, String data) throws IllegalArgumentException {
+		boolean[] allowed = allowedChars(type);
+		if(allowed != null) return firstInvalidIndex(allowed, data) >= 0;
+		if(type == RegexType.EXPRESSION) return countEntities(data) > 0;
+		return patterns.get(type).matcher(data).find();
+	}
+
+	/**
+	 * @param type {@link RegexType}
+	 * @param data 정규식을 체크하기 위한 값
+	 * @return 타입에 해당하는 정규식에 매칭되는 단어를 빈 문자열로 치환한 문자열 리턴. EXPRESSION 타입은 HTML 엔티티를 문자로 치환
+	 * @throws IllegalArgumentException 올바르지 않은 {@link RegexType}이 파라미터로 들어올 경우
+	 */
+	static String replace(RegexType type, String data) throws IllegalArgumentException {
+		String replaced = replaceMatches(type, data);
+		Metrics.recorder().recordSanitize(type, !replaced.equals(data));
+		return replaced;
+	}
+
+	private static String replaceMatches(RegexType type, String data) throws IllegalArgumentException {
+		boolean[] allowed = allowedChars(type);
+		if(allowed != null) {
+			int index = firstInvalidIndex(allowed, data);
+			if(index < 0) return data;
+			int len = data.length();
+			StringBuilder sb = new StringBuilder(len-1);
+			sb.append(data, 0, index);
+			for(int i=index+1; i<len; i++) {
+				char c = data.charAt(i);
+				if(isAllowed(allowed, c)) sb.append(c);
+			}
+			return sb.toString();
+		}
+		if(type == RegexType.EXPRESSION) {
+			// 기존 구현은 매칭 횟수만큼 치환을 반복했으므로 결과가 더 이상 바뀌지 않을 때까지 같은 횟수 이내로 반복
+			int count = countEntities(data);
+			for(int i=0; i<count; i++) {
+				String decoded = decodeEntities(data);
+				if(decoded == data) break;
+				data = decoded;
+			}
+			return data;
+		}
+		Matcher matcher = patterns.get(type).matcher(data);
+		while(matcher.find()) data = data.replace(matcher.group(), "");
+		return data;
+	}
+
+	/**
+	 * @param type {@link RegexType}
+	 * @param data 정규식을 체크하기 위한 값
+	 * @return data에 타입에 해당하는 정규식에 매칭되는 단어가 있을경우 해당 단어를 이어붙인 문자열 리턴, 없을 경우 빈 문자열 리턴
+	 * @throws IllegalArgumentException 올바르지 않은 {@link RegexType}이 파라미터로 들어올 경우
+	 */
+	static String invalidValue(RegexType type, String data) throws IllegalArgumentException {
+		String invalid = findInvalid(type, data);
+		Metrics.recorder().recordSanitize(type, !invalid.isEmpty());
+		return invalid;
+	}
+
+	private static String findInvalid(RegexType type, String data) throws IllegalArgumentException {
+		boolean[] allowed = allowedChars(type);
+		if(allowed != null) {
+			int index = firstInvalidIndex(allowed, data);
+			if(index < 0) return "";
+			int len = data.length();
+			StringBuilder sb = new StringBuilder();
+			for(int i=index; i<len; i++) {
+				char c = data.charAt(i);
+				if(!isAllowed(allowed, c)) sb.append(c);
+			}
+			return sb.toString();
+		}
+		if(type == RegexType.EXPRESSION) {
+			int index = data.indexOf('&');
+			if(index < 0) return "";
+			StringBuilder sb = new StringBuilder();
+			while(index >= 0) {
+				String entity = entityAt(data, index);
+				if(entity != null) sb.append(entity);
+				index = data.indexOf('&', index+1);
+			}
+			return sb.toString();
+		}
+		StringBuilder sb = new StringBuilder();
+		Matcher matcher = patterns.get(type).matcher(data);
+		while(matcher.find()) sb.append(matcher.group());
+		return sb.toString();
+	}
+
+	/**
+	 * @param type {@link RegexType}
+	 * @return 문자 집합 형태의 타입일 경우 허용 문자 테이블 리턴, 아닐 경우 null 리턴
+	 * @throws IllegalArgumentException 올바르지 않은 {@link RegexType}이 파라미터로 들어올 경우
+	 */
+	private static boolean[] allowedChars(RegexType type) throws IllegalArgumentException {
+		if(type == null) throw new IllegalArgumentException();
+		return allowedChars.get(type);
+	}
+
+	private static boolean[] allowed(String charClass) {
+		boolean[] table = new boolean[128];
+		int len = charClass.length();
+		for(int i=0; i<len; i++) {
+			char c = charClass.charAt(i);
+			if(i+2 < len && charClass.charAt(i+1) == '-') {
+				for(char r=c; r<=charClass.charAt(i+2); r++) table[r] = true;
+				i += 2;
+			} else table[c] = true;
+		}
+		return table;
+	}
+
+	private static boolean isAllowed(boolean[] allowed, char c) {
+		return c < 128 && allowed[c];
+	}
+
+	private static int firstInvalidIndex(boolean[] allowed, String data) {
+		int len = data.length();
+		for(int i=0; i<len; i++) {
+			if(!isAllowed(allowed, data.charAt(i))) return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * @param data 검사할 문자열
+	 * @param index '&amp;' 문자의 위치
+	 * @return index 위치에서 시작하는 HTML 엔티티 문자열. 없을 경우 null 리턴
+	 */
+	private static String entityAt(String data, int index) {
+		for(String entity : entities) {
+			if(data.startsWith(entity, index)) return entity;
+		}
+		return null;
+	}
+
+	private static int countEntities(String data) {
+		int count = 0;
+		int index = data.indexOf('&');
+		while(index >= 0) {
+			if(entityAt(data, index) != null) count++;
+			index = data.indexOf('&', index+1);
+		}
+		return count;
+	}
+
+	/**
+	 * {@code replace("&gt;", ">").replace("&lt;", "<").replace("&amp;", "&").replace("&quot;", "\"").replace("&#39;", "'")}와 같은 결과를 한 번의 순회로 생성.
+	 * "&amp;amp;quot;"처럼 &amp;amp;의 치환으로 새로 생기는 &amp;quot;, &amp;#39;는 뒤의 치환에서 처리되므로 함께 처리
+	 * @param data 치환할 문자열
+	 * @return HTML 엔티티가 치환된 문자열. 치환할 엔티티가 없을 경우 data 그대로 리턴
+	 */
+	private static String decodeEntities(String data) {
+		int index = data.indexOf('&');
+		if(index < 0) return data;
+		int len = data.length();
+		int last = 0;
+		StringBuilder sb = null;
+		while(index >= 0) {
+			char decoded;
+			int entityLen;
+			if(data.startsWith("&gt;", index)) { decoded = '>'; entityLen = 4; }
+			else if(data.startsWith("&lt;", index)) { decoded = '<'; entityLen = 4; }
+			else if(data.startsWith("&quot;", index)) { decoded = '"'; entityLen = 6; }
+			else if(data.startsWith("&#39;", index)) { decoded = '\''; entityLen = 5; }
+			else if(data.startsWith("&amp;", index)) {
+				if(data.startsWith("quot;", index+5)) { decoded = '"'; entityLen = 10; }
+				else if(data.startsWith("#39;", index+5)) { decoded = '\''; entityLen = 9; }
+				else { decoded = '&'; entityLen = 5; }
+			} else {
+				index = data.indexOf('&', index+1);
+				continue;
+			}
+			if(sb == null) sb = new StringBuilder(len);
+			sb.append(data, last, index).append(decoded);
+			last = index+entityLen;
+			index = data.indexOf('&', last);
+		}
+		if(sb == null) return data;
+		sb.append(data, last, len);
+		return sb.toString();
+	}
+}
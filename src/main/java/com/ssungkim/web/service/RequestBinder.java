@@ -0,0 +1,277 @@
+package com.ssungkim.web.service;
+
+import com.ssungkim.model.Param;
+import com.ssungkim.model.RegexType;
+import com.ssungkim.model.ValidationException;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 요청 파라미터를 record 또는 POJO 객체로 한 번에 변환.
+ * 클래스별로 필드 목록, 파라미터 이름, {@link RegexType} 검사 규칙, 변환 함수와 {@link MethodHandle}을 한 번만 분석해 캐시하고, 이후 요청은 캐시된 정보로 바로 변환.
+ * 변환 중 발견된 문제는 모두 모아 {@link ValidationException}으로 전달
+ * <pre>
+ * public record SearchForm(&#64;Param(required = true) String keyword, int page, &#64;Param("size") Integer countPerPage) {}
+ * SearchForm form = RequestBinder.bind(request, SearchForm.class);
+ * </pre>
+ * @since v1.1.0
+ * @see Param
+ */
+public class RequestBinder {
+
+	private static final Class<RequestBinder> thisClass = RequestBinder.class;
+
+	private static final RegexType[] STRING_REGEX = {RegexType.EXPRESSION};
+	private static final RegexType[] INTEGER_REGEX = {RegexType.EXPRESSION, RegexType.INTEGER};
+	private static final RegexType[] DOUBLE_REGEX = {RegexType.EXPRESSION, RegexType.DOUBLE};
+
+	private static final ClassValue<BindingPlan> plans = new ClassValue<BindingPlan>() {
+		@Override
+		protected BindingPlan computeValue(Class<?> type) {
+			return createPlan(type);
+		}
+	};
+
+	private RequestBinder() {}
+
+	/**
+	 * record는 모든 구성 요소를 정식 생성자로 전달하고, 그 외 클래스는 기본 생성자로 생성한 후 setter 또는 필드에 값을 입력.
+	 * POJO에서 없는 파라미터는 입력하지 않으므로 필드 초기값이 유지되며, record에서 없는 파라미터는 null 또는 0, false로 전달
+	 * @since v1.1.0
+	 * @param req {@link HttpServletRequest}
+	 * @param type 변환할 클래스
+	 * @return 요청 파라미터 값이 입력된 객체
+	 * @throws ValidationException 필수 파라미터가 없거나 값을 변환하지 못한 경우. 발견된 모든 문제를 포함
+	 * @throws IllegalArgumentException 변환할 수 없는 클래스일 경우
+	 */
+	public static <T> T bind(HttpServletRequest req, Class<T> type) throws ValidationException, IllegalArgumentException {
+		BindingPlan plan = plans.get(type);
+		Property[] properties = plan.properties;
+		int count = properties.length;
+		Object[] values = new Object[count];
+		boolean[] present = new boolean[count];
+		List<String> problems = null;
+		for(int i=0; i<count; i++) {
+			Property p = properties[i];
+			String problem = p.read(req, values, present, i);
+			if(problem != null) {
+				if(problems == null) problems = new ArrayList<String>();
+				problems.add(problem);
+			}
+		}
+		if(problems != null) {
+			LoggingService.debug(thisClass, "Fail to bind parameters. Type : {} / Problems : {}", type.getName(), problems);
+			throw new ValidationException(problems);
+		}
+		try {
+			return type.cast(plan.create(values, present));
+		} catch(Throwable t) {
+			LoggingService.error(thisClass, t.getClass()+" for bind parameters. Type : "+type.getName(), t);
+			throw new IllegalArgumentException("Can not create "+type.getName(), t);
+		}
+	}
+
+	private static BindingPlan createPlan(Class<?> type) throws IllegalArgumentException {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			if(type.isRecord()) {
+				RecordComponent[] components = type.getRecordComponents();
+				Property[] properties = new Property[components.length];
+				Class<?>[] types = new Class<?>[components.length];
+				for(int i=0; i<components.length; i++) {
+					RecordComponent c = components[i];
+					types[i] = c.getType();
+					properties[i] = createProperty(c.getName(), c.getType(), c, null);
+				}
+				Constructor<?> constructor = type.getDeclaredConstructor(types);
+				constructor.setAccessible(true);
+				MethodHandle mh = lookup.unreflectConstructor(constructor).asSpreader(Object[].class, components.length).asType(MethodType.methodType(Object.class, Object[].class));
+				return new BindingPlan(properties, mh, null);
+			}
+			Constructor<?> constructor = type.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			MethodHandle mh = lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+			List<Property> properties = new ArrayList<Property>();
+			for(Class<?> c=type; c != null && c != Object.class; c=c.getSuperclass()) {
+				for(Field f : c.getDeclaredFields()) {
+					int modifiers = f.getModifiers();
+					if(Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isTransient(modifiers) || f.isSynthetic()) continue;
+					properties.add(createProperty(f.getName(), f.getType(), f, setter(lookup, type, f)));
+				}
+			}
+			return new BindingPlan(properties.toArray(new Property[0]), null, mh);
+		} catch(NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalArgumentException("Can not bind parameters to "+type.getName(), e);
+		}
+	}
+
+	/**
+	 * @return public setter가 있을 경우 setter, 없을 경우 필드에 직접 입력하는 (Object, Object)void 형태의 {@link MethodHandle}
+	 */
+	private static MethodHandle setter(MethodHandles.Lookup lookup, Class<?> type, Field f) throws IllegalAccessException {
+		String name = "set"+Character.toUpperCase(f.getName().charAt(0))+f.getName().substring(1);
+		MethodHandle mh;
+		try {
+			Method m = type.getMethod(name, f.getType());
+			m.setAccessible(true);
+			mh = lookup.unreflect(m);
+		} catch(NoSuchMethodException e) {
+			f.setAccessible(true);
+			mh = lookup.unreflectSetter(f);
+		}
+		return mh.asType(MethodType.methodType(void.class, Object.class, Object.class));
+	}
+
+	private static Property createProperty(String fieldName, Class<?> type, AnnotatedElement element, MethodHandle setter) throws IllegalArgumentException {
+		Param param = element.getAnnotation(Param.class);
+		String name = param == null || param.value().isEmpty() ? fieldName : param.value();
+		boolean required = param != null && param.required();
+		boolean array = type.isArray();
+		Class<?> valueType = array ? type.getComponentType() : type;
+		RegexType[] regex = param == null || param.regex().length == 0 ? defaultRegex(valueType) : param.regex();
+		Function<String, Object> converter = converter(valueType);
+		if(converter == null || (array && valueType.isPrimitive())) throw new IllegalArgumentException("Unsupported parameter type. Name : "+name+" / Type : "+type.getName());
+		return new Property(name, type, valueType, array, required, regex, converter, setter);
+	}
+
+	/**
+	 * @return {@link ParameterService}의 getXxxParameter와 같은 {@link RegexType} 목록. long은 getLongParameter와 같이 EXPRESSION만 적용
+	 */
+	private static RegexType[] defaultRegex(Class<?> type) {
+		if(type == int.class || type == Integer.class || type == short.class || type == Short.class) return INTEGER_REGEX;
+		if(type == double.class || type == Double.class || type == float.class || type == Float.class) return DOUBLE_REGEX;
+		return STRING_REGEX;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Function<String, Object> converter(Class<?> type) {
+		if(type == String.class) return s -> s;
+		if(type == int.class || type == Integer.class) return Integer::valueOf;
+		if(type == long.class || type == Long.class) return Long::valueOf;
+		if(type == short.class || type == Short.class) return Short::valueOf;
+		if(type == double.class || type == Double.class) return Double::valueOf;
+		if(type == float.class || type == Float.class) return Float::valueOf;
+		if(type == boolean.class || type == Boolean.class) return s -> Boolean.valueOf(s.trim());
+		if(type.isEnum()) return s -> Enum.valueOf((Class<? extends Enum>)type, s.trim());
+		return null;
+	}
+
+	private static Object defaultValue(Class<?> type) {
+		if(!type.isPrimitive()) return null;
+		if(type == boolean.class) return false;
+		if(type == int.class) return 0;
+		if(type == long.class) return 0L;
+		if(type == short.class) return (short)0;
+		if(type == double.class) return 0.0;
+		if(type == float.class) return 0.0f;
+		return null;
+	}
+
+	/**
+	 * 클래스별로 한 번만 만들어지는 변환 정보. record일 경우 생성자, POJO일 경우 기본 생성자와 setter 사용
+	 */
+	private static class BindingPlan {
+
+		private final Property[] properties;
+		private final MethodHandle recordConstructor;
+		private final MethodHandle defaultConstructor;
+
+		private BindingPlan(Property[] properties, MethodHandle recordConstructor, MethodHandle defaultConstructor) {
+			this.properties = properties;
+			this.recordConstructor = recordConstructor;
+			this.defaultConstructor = defaultConstructor;
+		}
+
+		private Object create(Object[] values, boolean[] present) throws Throwable {
+			if(recordConstructor != null) {
+				for(int i=0; i<values.length; i++) {
+					if(!present[i]) values[i] = properties[i].defaultValue;
+				}
+				return (Object)recordConstructor.invokeExact(values);
+			}
+			Object target = (Object)defaultConstructor.invokeExact();
+			for(int i=0; i<values.length; i++) {
+				if(present[i]) properties[i].setter.invokeExact(target, values[i]);
+			}
+			return target;
+		}
+	}
+
+	private static class Property {
+
+		private final String name;
+		private final Class<?> type;
+		private final Class<?> valueType;
+		private final boolean array;
+		private final boolean required;
+		private final RegexType[] regex;
+		private final Function<String, Object> converter;
+		private final MethodHandle setter;
+		private final Object defaultValue;
+
+		private Property(String name, Class<?> type, Class<?> valueType, boolean array, boolean required, RegexType[] regex, Function<String, Object> converter, MethodHandle setter) {
+			this.name = name;
+			this.type = type;
+			this.valueType = valueType;
+			this.array = array;
+			this.required = required;
+			this.regex = regex;
+			this.converter = converter;
+			this.setter = setter;
+			this.defaultValue = defaultValue(type);
+		}
+
+		/**
+		 * @return 문제가 없을 경우 null, 있을 경우 문제 내용 리턴
+		 */
+		private String read(HttpServletRequest req, Object[] values, boolean[] present, int index) {
+			if(array) {
+				String[] raw = req.getParameterValues(name);
+				if(raw == null) return required ? "HttpServletRequest has not value about key. Key : "+name : null;
+				Object converted = Array.newInstance(valueType, raw.length);
+				for(int i=0; i<raw.length; i++) {
+					String s = clean(raw[i]);
+					Object value = convert(s);
+					if(value == null) return "Can not convert value to "+valueType.getSimpleName()+". Key : "+name+" / Data : "+raw[i];
+					Array.set(converted, i, value);
+				}
+				values[index] = converted;
+				present[index] = true;
+				return null;
+			}
+			String raw = req.getParameter(name);
+			if(raw == null) return required ? "HttpServletRequest has not value about key. Key : "+name : null;
+			Object value = convert(clean(raw));
+			if(value == null) return "Can not convert value to "+type.getSimpleName()+". Key : "+name+" / Data : "+raw;
+			values[index] = value;
+			present[index] = true;
+			return null;
+		}
+
+		private String clean(String s) {
+			for(RegexType r : regex) s = RegexSanitizer.replace(r, s);
+			return s;
+		}
+
+		private Object convert(String s) {
+			try {
+				return converter.apply(s);
+			} catch(IllegalArgumentException e) {
+				return null;
+			}
+		}
+	}
+}
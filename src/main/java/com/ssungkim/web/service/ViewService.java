@@ -30,7 +30,7 @@ public class ViewService {
 			mav = new ModelAndView("/WEB-INF/"+viewName+".jsp");
 			mav.addObject("page", "/WEB-INF/"+page+".jsp");
 		}
-		LoggingService.info(className, "Direction page ::: "+page);
+		LoggingService.info(className, "Direction page ::: {}", page);
 		if(param != null) {
 			Set<String> set = param.keySet();
 			Iterator<String> it = set.iterator();
@@ -60,7 +60,7 @@ public class ViewService {
 		}
 		ModelAndView mav = new ModelAndView(errorPage);
 		mav.addObject("errorCode", errorCode);
-		LoggingService.info(className, "Error code ::: "+errorCode);
+		LoggingService.info(className, "Error code ::: {}", errorCode);
 		return getModelAndView(param, mav);
 	}
 
@@ -79,7 +79,7 @@ public class ViewService {
 			throw new NullPointerException();
 		}
 		ModelAndView mav = new ModelAndView("/WEB-INF/"+page+".jsp");
-		LoggingService.info(className, "Direction page ::: "+page);
+		LoggingService.info(className, "Direction page ::: {}", page);
 		return getModelAndView(param, mav);
 	}
 
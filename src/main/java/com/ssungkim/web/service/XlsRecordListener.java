@@ -0,0 +1,139 @@
+package com.ssungkim.web.service;
+
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.eventusermodel.MissingRecordAwareHSSFListener;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+
+/**
+ * xls 파일의 레코드를 순서대로 읽어 첫번째 시트의 셀 값을 {@link SheetContentsHandler}로 전달하는 HSSF 이벤트 리스너.
+ * 워크북 전체를 메모리에 올리지 않고 한 행씩 전달하며, 첫번째 시트가 끝나면 나머지 레코드는 읽지 않음.
+ * 수식 셀은 xlsx 파싱과 같이 저장된 계산 결과를 전달하며, 오류 값은 #N/A, #DIV/0!과 같은 오류 문자열로 전달
+ * @since v1.1.0
+ * @see ExcelSheetHandler#readXls(java.io.File, java.util.function.Consumer)
+ */
+class XlsRecordListener extends AbortableHSSFListener {
+
+	private final SheetContentsHandler handler;
+	private final FormatTrackingHSSFListener formatListener;
+	private final HSSFListener listener;
+	private final ExcelCellFormatter formatter = new ExcelCellFormatter();
+
+	private SSTRecord sstRecord;
+	private boolean use1904Windowing = false;
+	private int sheetIndex = -1;
+	private int currentRow = -1;
+	private boolean outputNextStringRecord = false;
+	private int nextStringRow;
+	private int nextStringColumn;
+	private boolean done = false;
+
+	/**
+	 * @since v1.1.0
+	 * @param handler 첫번째 시트의 셀 데이터를 전달받을 핸들러
+	 */
+	XlsRecordListener(SheetContentsHandler handler) {
+		this.handler = handler;
+		this.formatListener = new FormatTrackingHSSFListener(this::processCellRecord);
+		this.listener = new MissingRecordAwareHSSFListener(formatListener);
+	}
+
+	@Override
+	public short abortableProcessRecord(Record record) {
+		listener.processRecord(record);
+		return (short)(done ? 1 : 0);
+	}
+
+	private void processCellRecord(Record record) {
+		if(done) return;
+		if(record instanceof BOFRecord) {
+			if(((BOFRecord)record).getType() == BOFRecord.TYPE_WORKSHEET) sheetIndex++;
+			return;
+		}
+		if(record instanceof SSTRecord) {
+			sstRecord = (SSTRecord)record;
+			return;
+		}
+		if(record instanceof DateWindow1904Record) {
+			use1904Windowing = ((DateWindow1904Record)record).getWindowing() == 1;
+			return;
+		}
+		if(sheetIndex != 0) return;
+		if(record instanceof EOFRecord) {
+			endRow();
+			done = true;
+			return;
+		}
+		if(record instanceof LastCellOfRowDummyRecord) {
+			if(((LastCellOfRowDummyRecord)record).getRow() == currentRow) endRow();
+			return;
+		}
+		if(record instanceof StringRecord) {
+			if(outputNextStringRecord) cell(nextStringRow, nextStringColumn, ((StringRecord)record).getString());
+			outputNextStringRecord = false;
+			return;
+		}
+		if(!(record instanceof CellValueRecordInterface)) return;
+		CellValueRecordInterface cellRecord = (CellValueRecordInterface)record;
+		int row = cellRecord.getRow();
+		int column = cellRecord.getColumn();
+		if(record instanceof LabelSSTRecord) {
+			if(sstRecord != null) cell(row, column, sstRecord.getString(((LabelSSTRecord)record).getSSTIndex()).getString());
+		} else if(record instanceof LabelRecord) {
+			cell(row, column, ((LabelRecord)record).getValue());
+		} else if(record instanceof NumberRecord) {
+			cell(row, column, formatNumber(row, ((NumberRecord)record).getValue(), cellRecord));
+		} else if(record instanceof BoolErrRecord) {
+			BoolErrRecord boolErr = (BoolErrRecord)record;
+			if(boolErr.isBoolean()) cell(row, column, boolErr.getBooleanValue() ? "TRUE" : "FALSE");
+			else cell(row, column, FormulaError.forInt(boolErr.getErrorValue()).getString());
+		} else if(record instanceof FormulaRecord) {
+			FormulaRecord formula = (FormulaRecord)record;
+			CellType type = formula.getCachedResultTypeEnum();
+			if(type == CellType.STRING) {
+				outputNextStringRecord = true;
+				nextStringRow = row;
+				nextStringColumn = column;
+			} else if(type == CellType.NUMERIC) cell(row, column, formatNumber(row, formula.getValue(), cellRecord));
+			else if(type == CellType.BOOLEAN) cell(row, column, formula.getCachedBooleanValue() ? "TRUE" : "FALSE");
+			else if(type == CellType.ERROR) cell(row, column, FormulaError.forInt(formula.getCachedErrorValue()).getString());
+		}
+	}
+
+	private String formatNumber(int row, double value, CellValueRecordInterface cellRecord) {
+		return formatter.formatNumber(row, value, formatListener.getFormatIndex(cellRecord), formatListener.getFormatString(cellRecord), use1904Windowing);
+	}
+
+	private void cell(int row, int column, String value) {
+		if(value == null || value.isEmpty()) return;
+		if(row != currentRow) {
+			endRow();
+			currentRow = row;
+			handler.startRow(row);
+		}
+		handler.cell(CellReference.convertNumToColString(column)+(row+1), value.trim(), null);
+	}
+
+	private void endRow() {
+		if(currentRow < 0) return;
+		handler.endRow(currentRow);
+		currentRow = -1;
+	}
+}